@@ -13,11 +13,7 @@ public class AuthUtils {
      */
     public static boolean hasRole(String role) {
         UserContext ctx = SecurityContextHolder.getContext();
-        if (ctx == null || ctx.getRoles() == null) return false;
-        for (String r : ctx.getRoles()) {
-            if (role.equals(r)) return true;
-        }
-        return false;
+        return ctx != null && ctx.hasRole(role);
     }
 
     /**
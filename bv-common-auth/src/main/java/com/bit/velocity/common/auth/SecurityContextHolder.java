@@ -1,10 +1,20 @@
 package com.bit.velocity.common.auth;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 /**
  * Holds the UserContext for the current thread/request.
  * Typically set by authentication filters in downstream services.
+ *
+ * {@link #runWith(UserContext, Runnable)} binds a context for one task only and restores the
+ * previous one afterwards, mirroring {@code ScopedValue} semantics on top of a ThreadLocal
+ * ({@code ScopedValue} is still a preview API on Java 21). The wrap helpers carry the
+ * caller's context into executor and CompletableFuture work.
  */
-class SecurityContextHolder {
+public class SecurityContextHolder {
   private static final ThreadLocal<UserContext> contextHolder = new ThreadLocal<>();
 
   /**
@@ -27,5 +37,87 @@ class SecurityContextHolder {
   public static void clearContext() {
     contextHolder.remove();
   }
+
+  /**
+   * Runs the task with the given UserContext bound, restoring the previous context afterwards.
+   */
+  public static void runWith(UserContext context, Runnable task) {
+    UserContext previous = bind(context);
+    try {
+      task.run();
+    } finally {
+      bind(previous);
+    }
+  }
+
+  /**
+   * Calls the task with the given UserContext bound, restoring the previous context afterwards.
+   */
+  public static <T> T callWith(UserContext context, Callable<T> task) throws Exception {
+    UserContext previous = bind(context);
+    try {
+      return task.call();
+    } finally {
+      bind(previous);
+    }
+  }
+
+  /**
+   * Captures the current UserContext so the task runs with it on another thread.
+   */
+  public static Runnable wrap(Runnable task) {
+    UserContext captured = getContext();
+    return () -> runWith(captured, task);
+  }
+
+  /**
+   * Captures the current UserContext so the task runs with it on another thread.
+   */
+  public static <T> Callable<T> wrap(Callable<T> task) {
+    UserContext captured = getContext();
+    return () -> callWith(captured, task);
+  }
+
+  /**
+   * Captures the current UserContext so the supplier runs with it on another thread.
+   */
+  public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+    UserContext captured = getContext();
+    return () -> {
+      UserContext previous = bind(captured);
+      try {
+        return supplier.get();
+      } finally {
+        bind(previous);
+      }
+    };
+  }
+
+  /**
+   * Like {@link CompletableFuture#supplyAsync(Supplier, Executor)}, carrying the current UserContext.
+   */
+  public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+    return CompletableFuture.supplyAsync(wrapSupplier(supplier), executor);
+  }
+
+  /**
+   * Like {@link CompletableFuture#runAsync(Runnable, Executor)}, carrying the current UserContext.
+   */
+  public static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+    return CompletableFuture.runAsync(wrap(task), executor);
+  }
+
+  /**
+   * Replaces the bound context and returns the previous one; null removes the binding.
+   */
+  private static UserContext bind(UserContext context) {
+    UserContext previous = contextHolder.get();
+    if (context != null) {
+      contextHolder.set(context);
+    } else {
+      contextHolder.remove();
+    }
+    return previous;
+  }
 }
 
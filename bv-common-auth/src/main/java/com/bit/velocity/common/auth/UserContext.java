@@ -1,5 +1,10 @@
 package com.bit.velocity.common.auth;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Provides access to the current authenticated user's context.
  * This class can be extended to include more user details as needed.
@@ -11,11 +16,16 @@ public class UserContext {
     private final String username;
     // The roles assigned to the user (e.g., USER, ADMIN)
     private final String[] roles;
+    // Hashed view of the roles for constant-time checks
+    private final Set<String> roleSet;
 
     public UserContext(String userId, String username, String[] roles) {
         this.userId = userId;
         this.username = username;
         this.roles = roles;
+        this.roleSet = roles != null
+                ? Collections.unmodifiableSet(new HashSet<>(Arrays.asList(roles)))
+                : Collections.emptySet();
     }
 
     public String getUserId() {
@@ -29,4 +39,11 @@ public class UserContext {
     public String[] getRoles() {
         return roles;
     }
+
+    /**
+     * Checks if the user has a specific role without scanning the role array.
+     */
+    public boolean hasRole(String role) {
+        return role != null && roleSet.contains(role);
+    }
 }
\ No newline at end of file
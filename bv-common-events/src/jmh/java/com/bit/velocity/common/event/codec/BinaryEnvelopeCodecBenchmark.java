@@ -0,0 +1,104 @@
+package com.bit.velocity.common.event.codec;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of {@link BinaryEnvelopeCodec} against the Jackson JSON encoding of the whole
+ * envelope, as {@code JsonEventSerializer} writes it. {@code small} is an order created event with a
+ * few fields, {@code large} an order with 20 line items. Encoded sizes are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryEnvelopeCodecBenchmark {
+
+    @Param({"small", "large"})
+    public String payload;
+
+    private final BinaryEnvelopeCodec codec = new BinaryEnvelopeCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private EventEnvelope envelope;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        envelope = EventEnvelope.create("ecommerce.orders.order.created.v1", "order-service",
+                "large".equals(payload) ? order(20) : order(0));
+        envelope.setCorrelationId("7f3c2a10-5b9e-4d61-8a2f-0c4e6b1d9a37");
+        envelope.setTriggeredBy("jane.doe");
+        envelope.setMetadata(Map.of("tenantId", "tenant-42", "region", "eu-west-1"));
+        binary = codec.encode(envelope);
+        json = objectMapper.writeValueAsBytes(envelope);
+        System.out.printf("%n%s payload: binary %d bytes, json %d bytes%n", payload, binary.length, json.length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encode(envelope);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(envelope);
+    }
+
+    @Benchmark
+    public EventEnvelope decodeBinary() {
+        return codec.decode(binary);
+    }
+
+    @Benchmark
+    public EventEnvelope decodeJson() throws IOException {
+        return objectMapper.readValue(json, EventEnvelope.class);
+    }
+
+    @Benchmark
+    public String readEventIdBinary() {
+        return BinaryEnvelopeCodec.readEventId(binary);
+    }
+
+    private static Map<String, Object> order(int lineItems) {
+        Map<String, Object> order = new LinkedHashMap<>();
+        order.put("orderId", "0190f5a4-7c1e-7a3b-9d2f-5e8c1b4a6f70");
+        order.put("customerId", "c-1029384");
+        order.put("currency", "EUR");
+        order.put("total", 129.95);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < lineItems; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", "SKU-" + (100_000 + i));
+            item.put("quantity", 1 + i % 3);
+            item.put("unitPrice", 9.99 + i);
+            items.add(item);
+        }
+        if (!items.isEmpty()) {
+            order.put("lineItems", items);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bit.velocity.common.event.dedup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of {@link EventDeduplicator} holding a full window of {@code idsPerWindow} ids.
+ * {@code miss} checks ids never seen, which the Bloom filter answers alone; {@code hit} checks
+ * processed ids, which also take the exact lookup; {@code firstSeen} records new ids, evicting the oldest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@Threads(4)
+public class EventDeduplicatorBenchmark {
+
+    private static final int SAMPLE_SIZE = 1 << 16;
+
+    @Param({"1000000", "10000000"})
+    public int idsPerWindow;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private EventDeduplicator deduplicator;
+    private String[] seenIds;
+    private String[] unseenIds;
+
+    @Setup
+    public void setUp() {
+        deduplicator = new EventDeduplicator(DeduplicationConfig.builder()
+                .window(Duration.ofHours(1))
+                .expectedIdsPerWindow(idsPerWindow)
+                .exactCapacity(idsPerWindow)
+                .build());
+        seenIds = new String[SAMPLE_SIZE];
+        unseenIds = new String[SAMPLE_SIZE];
+        int stride = idsPerWindow / SAMPLE_SIZE;
+        for (int i = 0; i < idsPerWindow; i++) {
+            String id = eventId("seen", i);
+            deduplicator.markProcessed(id);
+            if (i % stride == 0 && i / stride < SAMPLE_SIZE) {
+                seenIds[i / stride] = id;
+            }
+        }
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            unseenIds[i] = eventId("unseen", i);
+        }
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return deduplicator.isDuplicate(unseenIds[ThreadLocalRandom.current().nextInt(SAMPLE_SIZE)]);
+    }
+
+    @Benchmark
+    public boolean hit() {
+        return deduplicator.isDuplicate(seenIds[ThreadLocalRandom.current().nextInt(SAMPLE_SIZE)]);
+    }
+
+    @Benchmark
+    public boolean firstSeen() {
+        return deduplicator.firstSeen(eventId("new", sequence.getAndIncrement()));
+    }
+
+    private static String eventId(String prefix, long sequence) {
+        return prefix + "-" + Long.toHexString(sequence * 0x9E3779B97F4A7C15L);
+    }
+}
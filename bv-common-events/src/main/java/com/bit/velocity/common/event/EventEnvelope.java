@@ -1,5 +1,6 @@
 package com.bit.velocity.common.event;
 
+import com.bit.velocity.common.id.Ids;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Standard event envelope following the event contract pattern defined in
@@ -23,10 +23,10 @@ import java.util.UUID;
 public class EventEnvelope {
 
     /**
-     * Unique identifier for this event instance
+     * Unique identifier for this event instance, time-ordered by default
      */
     @Builder.Default
-    private String eventId = UUID.randomUUID().toString();
+    private String eventId = Ids.nextString();
 
     /**
      * Event type following naming convention: domain.context.entity.eventType.vN
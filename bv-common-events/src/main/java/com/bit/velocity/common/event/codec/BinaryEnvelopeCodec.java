@@ -0,0 +1,287 @@
+package com.bit.velocity.common.event.codec;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.id.Id;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Compact binary encoding of {@link EventEnvelope}, an alternative to JSON on the wire.
+ *
+ * Layout: the magic bytes {@code 'B' 'V'}, a format version byte, the varint length of the header,
+ * the header, then the payload up to the end of the buffer. The header starts with a flags byte and
+ * the event id (16 bytes when it is a UUID, a string otherwise), so the id can be read without decoding
+ * anything else. Strings are UTF-8 prefixed by their length plus one, with zero meaning null.
+ *
+ * Versioning needs no schema registry: fields are only ever appended to the end of the header, and
+ * because the header is length-prefixed, older decoders skip fields they do not know. The format
+ * version is raised only for incompatible changes, which older decoders reject.
+ *
+ * Timestamps are epoch microseconds of the envelope's {@link LocalDateTime} read as UTC. The envelope
+ * carries no zone, so this keeps the wall-clock value exactly as the producer set it, whatever the
+ * zones of producer and consumer, matching what the JSON encoding does. Sub-microsecond precision is dropped.
+ *
+ * Instances are thread-safe. As a {@code Function<EventEnvelope, byte[]>} the codec can be used as
+ * the serializer of {@code KafkaEventTransport}.
+ */
+public class BinaryEnvelopeCodec implements Function<EventEnvelope, byte[]> {
+
+    public static final byte MAGIC_0 = 'B';
+    public static final byte MAGIC_1 = 'V';
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int FLAG_UUID_ID = 1;
+    private static final int FLAG_TIMESTAMP = 1 << 1;
+    private static final int FLAG_PAYLOAD = 1 << 2;
+
+    private static final int PREAMBLE_LENGTH = 3;
+    private static final int MAX_INTERNED_EVENT_TYPES = 4096;
+
+    private final PayloadSerializer payloadSerializer;
+    private final PayloadSerializer[] serializersById;
+
+    /**
+     * Event types seen by the decoder, so the many envelopes of one type share a single string
+     */
+    private final Map<String, String> eventTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Codec writing JSON payloads and reading JSON and raw payloads
+     */
+    public BinaryEnvelopeCodec() {
+        this(new JsonPayloadSerializer(), new RawPayloadSerializer());
+    }
+
+    /**
+     * @param payloadSerializer serializer for encoding; also used for decoding
+     * @param decodeOnly        further serializers accepted when decoding
+     */
+    public BinaryEnvelopeCodec(PayloadSerializer payloadSerializer, PayloadSerializer... decodeOnly) {
+        this.payloadSerializer = payloadSerializer;
+        int maxId = payloadSerializer.id();
+        for (PayloadSerializer serializer : decodeOnly) {
+            maxId = Math.max(maxId, serializer.id());
+        }
+        if (maxId > 0xFF) {
+            throw new IllegalArgumentException("Payload serializer ids must be in 0-255");
+        }
+        this.serializersById = new PayloadSerializer[maxId + 1];
+        for (PayloadSerializer serializer : decodeOnly) {
+            register(serializer);
+        }
+        register(payloadSerializer);
+    }
+
+    @Override
+    public byte[] apply(EventEnvelope envelope) {
+        return encode(envelope);
+    }
+
+    public byte[] encode(EventEnvelope envelope) {
+        // A null payload is flagged rather than serialized, so it decodes back to null with any serializer
+        byte[] payload = envelope.getData() != null ? payloadSerializer.serialize(envelope.getData()) : new byte[0];
+
+        ByteWriter header = new ByteWriter(128);
+        Id uuid = parseUuid(envelope.getEventId());
+        int flags = (uuid != null ? FLAG_UUID_ID : 0)
+                | (envelope.getTimestamp() != null ? FLAG_TIMESTAMP : 0)
+                | (envelope.getData() != null ? FLAG_PAYLOAD : 0);
+        header.writeByte(flags);
+        if (uuid != null) {
+            header.writeLong(uuid.mostSigBits());
+            header.writeLong(uuid.leastSigBits());
+        } else {
+            header.writeString(envelope.getEventId());
+        }
+        header.writeString(envelope.getEventType());
+        header.writeByte(payloadSerializer.id());
+        if (envelope.getTimestamp() != null) {
+            header.writeLong(toEpochMicros(envelope.getTimestamp()));
+        }
+        header.writeString(envelope.getSource());
+        header.writeString(envelope.getVersion());
+        header.writeString(envelope.getCorrelationId());
+        header.writeString(envelope.getTriggeredBy());
+        writeMetadata(header, envelope.getMetadata());
+
+        ByteWriter out = new ByteWriter(PREAMBLE_LENGTH + 5 + header.size() + payload.length);
+        out.writeByte(MAGIC_0);
+        out.writeByte(MAGIC_1);
+        out.writeByte(FORMAT_VERSION);
+        out.writeLengthPrefixed(header);
+        out.writeBytes(payload);
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode the full envelope including its payload
+     */
+    public EventEnvelope decode(byte[] bytes) {
+        EnvelopeHeader header = decodeHeader(bytes);
+        return header.toEnvelope(decodePayload(bytes, header));
+    }
+
+    /**
+     * Decode every envelope field except the payload
+     */
+    public EnvelopeHeader decodeHeader(byte[] bytes) {
+        ByteReader reader = headerReader(bytes);
+        int headerEnd = reader.limit();
+
+        int flags = reader.readByte();
+        String eventId = readEventId(reader, flags);
+        String eventType = intern(reader.readString());
+        int serializerId = reader.readByte();
+        LocalDateTime timestamp = (flags & FLAG_TIMESTAMP) != 0 ? fromEpochMicros(reader.readLong()) : null;
+        String source = reader.readString();
+        String version = reader.readString();
+        String correlationId = reader.readString();
+        String triggeredBy = reader.readString();
+        Map<String, String> metadata = readMetadata(reader);
+        // Fields appended by newer writers end before headerEnd and are skipped
+
+        return new EnvelopeHeader(eventId, eventType, source, timestamp, version, correlationId, triggeredBy,
+                metadata, serializerId, (flags & FLAG_PAYLOAD) != 0, headerEnd, bytes.length - headerEnd);
+    }
+
+    /**
+     * Decode the payload located by a previously decoded header
+     */
+    public Object decodePayload(byte[] bytes, EnvelopeHeader header) {
+        if (!header.isPayloadPresent()) {
+            return null;
+        }
+        int id = header.getPayloadSerializerId();
+        PayloadSerializer serializer = id < serializersById.length ? serializersById[id] : null;
+        if (serializer == null) {
+            throw new EventCodecException("No payload serializer registered for id " + id);
+        }
+        byte[] payload = Arrays.copyOfRange(bytes, header.getPayloadOffset(),
+                header.getPayloadOffset() + header.getPayloadLength());
+        return serializer.deserialize(payload, header.getEventType());
+    }
+
+    /**
+     * Read only the event id, e.g. to drop duplicates before anything else is decoded
+     */
+    public static String readEventId(byte[] bytes) {
+        ByteReader reader = headerReader(bytes);
+        return readEventId(reader, reader.readByte());
+    }
+
+    /**
+     * Whether the bytes start like an envelope written by this codec, e.g. to tell it apart from JSON
+     */
+    public static boolean isBinaryEnvelope(byte[] bytes) {
+        return bytes != null && bytes.length >= PREAMBLE_LENGTH && bytes[0] == MAGIC_0 && bytes[1] == MAGIC_1;
+    }
+
+    /**
+     * Reader positioned at the start of the header and limited to it
+     */
+    private static ByteReader headerReader(byte[] bytes) {
+        if (!isBinaryEnvelope(bytes)) {
+            throw new EventCodecException("Not a binary event envelope");
+        }
+        int formatVersion = bytes[2] & 0xFF;
+        if (formatVersion != FORMAT_VERSION) {
+            throw new EventCodecException("Unsupported envelope format version " + formatVersion);
+        }
+        ByteReader preamble = new ByteReader(bytes, PREAMBLE_LENGTH, bytes.length);
+        int headerLength = preamble.readVarInt();
+        int headerStart = preamble.position();
+        if (headerLength < 0 || headerLength > bytes.length - headerStart) {
+            throw new EventCodecException("Truncated event envelope");
+        }
+        return new ByteReader(bytes, headerStart, headerStart + headerLength);
+    }
+
+    private static String readEventId(ByteReader reader, int flags) {
+        if ((flags & FLAG_UUID_ID) != 0) {
+            return new Id(reader.readLong(), reader.readLong()).toString();
+        }
+        return reader.readString();
+    }
+
+    private static void writeMetadata(ByteWriter writer, Map<String, String> metadata) {
+        if (metadata == null) {
+            writer.writeVarInt(0);
+            return;
+        }
+        writer.writeVarInt(metadata.size() + 1);
+        for (Map.Entry<String, String> entry : metadata.entrySet()) {
+            writer.writeString(entry.getKey());
+            writer.writeString(entry.getValue());
+        }
+    }
+
+    private static Map<String, String> readMetadata(ByteReader reader) {
+        int prefix = reader.readVarInt();
+        if (prefix == 0) {
+            return null;
+        }
+        int size = prefix - 1;
+        // Every entry takes at least two bytes, which bounds the map before anything is allocated
+        if (size > (reader.limit() - reader.position()) / 2) {
+            throw new EventCodecException("Metadata entry count " + size + " exceeds the header");
+        }
+        Map<String, String> metadata = new LinkedHashMap<>(Math.max(4, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            metadata.put(reader.readString(), reader.readString());
+        }
+        return metadata;
+    }
+
+    /**
+     * Parse canonical lowercase or uppercase UUIDs only, so the decoded id always equals the original string
+     */
+    private static Id parseUuid(String eventId) {
+        if (eventId == null || eventId.length() != 36) {
+            return null;
+        }
+        try {
+            Id id = Id.parse(eventId);
+            return id.toString().equals(eventId) ? id : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String intern(String eventType) {
+        if (eventType == null) {
+            return null;
+        }
+        String interned = eventTypes.get(eventType);
+        if (interned != null) {
+            return interned;
+        }
+        if (eventTypes.size() >= MAX_INTERNED_EVENT_TYPES) {
+            return eventType;
+        }
+        interned = eventTypes.putIfAbsent(eventType, eventType);
+        return interned != null ? interned : eventType;
+    }
+
+    private void register(PayloadSerializer serializer) {
+        if (serializer.id() < 0) {
+            throw new IllegalArgumentException("Payload serializer ids must be in 0-255");
+        }
+        serializersById[serializer.id()] = serializer;
+    }
+
+    private static long toEpochMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        long seconds = Math.floorDiv(epochMicros, 1_000_000L);
+        int nanos = (int) Math.floorMod(epochMicros, 1_000_000L) * 1000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
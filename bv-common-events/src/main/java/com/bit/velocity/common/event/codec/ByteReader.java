@@ -0,0 +1,84 @@
+package com.bit.velocity.common.event.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cursor over an encoded envelope, mirroring {@link ByteWriter}
+ */
+final class ByteReader {
+
+    private final byte[] buffer;
+    private int position;
+    private final int limit;
+
+    ByteReader(byte[] buffer, int position, int limit) {
+        this.buffer = buffer;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    int readByte() {
+        check(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    long readLong() {
+        check(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (buffer[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                // Only lengths and counts are written as varints, so negative values are corrupt
+                if (value < 0) {
+                    throw new EventCodecException("Malformed varint");
+                }
+                return value;
+            }
+        }
+        throw new EventCodecException("Malformed varint");
+    }
+
+    String readString() {
+        int prefix = readVarInt();
+        if (prefix == 0) {
+            return null;
+        }
+        int length = prefix - 1;
+        check(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    void skip(int bytes) {
+        check(bytes);
+        position += bytes;
+    }
+
+    int position() {
+        return position;
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private void check(int bytes) {
+        if (bytes < 0 || bytes > limit - position) {
+            throw new EventCodecException("Truncated event envelope");
+        }
+    }
+}
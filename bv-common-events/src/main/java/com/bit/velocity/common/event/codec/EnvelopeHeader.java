@@ -0,0 +1,57 @@
+package com.bit.velocity.common.event.codec;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Envelope fields decoded without touching the payload, for routing, filtering and deduplication.
+ * The payload is decoded on demand with {@link BinaryEnvelopeCodec#decodePayload(byte[], EnvelopeHeader)}.
+ */
+@Value
+public class EnvelopeHeader {
+
+    String eventId;
+    String eventType;
+    String source;
+    LocalDateTime timestamp;
+    String version;
+    String correlationId;
+    String triggeredBy;
+    Map<String, String> metadata;
+
+    /**
+     * Id of the {@link PayloadSerializer} that wrote the payload
+     */
+    int payloadSerializerId;
+
+    /**
+     * Whether the envelope carried a payload; null payloads are not serialized
+     */
+    boolean payloadPresent;
+
+    /**
+     * Position and length of the payload in the encoded bytes
+     */
+    int payloadOffset;
+    int payloadLength;
+
+    /**
+     * Build the full envelope around an already decoded payload
+     */
+    public EventEnvelope toEnvelope(Object data) {
+        return EventEnvelope.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .source(source)
+                .timestamp(timestamp)
+                .version(version)
+                .correlationId(correlationId)
+                .triggeredBy(triggeredBy)
+                .data(data)
+                .metadata(metadata)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.bit.velocity.common.event.codec;
+
+/**
+ * Raised when an envelope cannot be encoded or decoded
+ */
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message) {
+        super(message);
+    }
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,56 @@
+package com.bit.velocity.common.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * JSON payloads through Jackson. Payloads decode to the class registered for their event type,
+ * or to generic maps and lists when none is registered.
+ */
+public class JsonPayloadSerializer implements PayloadSerializer {
+
+    public static final int ID = 1;
+
+    private final ObjectMapper objectMapper;
+    private final Function<String, Class<?>> payloadTypes;
+
+    public JsonPayloadSerializer() {
+        this(new ObjectMapper().registerModule(new JavaTimeModule()), Map.<String, Class<?>>of());
+    }
+
+    /**
+     * @param payloadTypes target class per event type
+     */
+    public JsonPayloadSerializer(ObjectMapper objectMapper, Map<String, Class<?>> payloadTypes) {
+        this.objectMapper = objectMapper;
+        Map<String, Class<?>> types = Map.copyOf(payloadTypes);
+        this.payloadTypes = eventType -> eventType != null ? types.getOrDefault(eventType, Object.class) : Object.class;
+    }
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] serialize(Object data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (IOException e) {
+            throw new EventCodecException("Cannot serialize payload", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, String eventType) {
+        try {
+            return objectMapper.readValue(bytes, payloadTypes.apply(eventType));
+        } catch (IOException e) {
+            throw new EventCodecException("Cannot deserialize payload of " + eventType, e);
+        }
+    }
+}
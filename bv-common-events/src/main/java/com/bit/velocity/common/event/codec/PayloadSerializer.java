@@ -0,0 +1,21 @@
+package com.bit.velocity.common.event.codec;
+
+/**
+ * Pluggable encoding of {@code EventEnvelope.data}.
+ * The serializer id is stored in each envelope, so a decoder can read envelopes written
+ * with any serializer it has registered, independently of the one used for encoding.
+ */
+public interface PayloadSerializer {
+
+    /**
+     * Stable identifier written into the envelope header; 0-15 are reserved for built-in serializers
+     */
+    int id();
+
+    byte[] serialize(Object data);
+
+    /**
+     * Decode a payload; the event type allows choosing a target class per event
+     */
+    Object deserialize(byte[] bytes, String eventType);
+}
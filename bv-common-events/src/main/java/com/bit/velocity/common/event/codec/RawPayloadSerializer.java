@@ -0,0 +1,29 @@
+package com.bit.velocity.common.event.codec;
+
+/**
+ * Passes {@code byte[]} payloads through unchanged, for producers that encode their own data.
+ * Null payloads never reach a serializer; {@link BinaryEnvelopeCodec} flags them in the header.
+ */
+public class RawPayloadSerializer implements PayloadSerializer {
+
+    public static final int ID = 0;
+
+    @Override
+    public int id() {
+        return ID;
+    }
+
+    @Override
+    public byte[] serialize(Object data) {
+        if (!(data instanceof byte[] bytes)) {
+            throw new EventCodecException("Raw payload must be byte[], got "
+                    + (data != null ? data.getClass().getName() : "null"));
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes, String eventType) {
+        return bytes;
+    }
+}
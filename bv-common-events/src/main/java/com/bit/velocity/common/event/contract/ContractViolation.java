@@ -0,0 +1,21 @@
+package com.bit.velocity.common.event.contract;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * An invalid event found by {@link EnvelopeContractValidator#validateAll}
+ */
+@Value
+public class ContractViolation {
+
+    /**
+     * Position of the event in the validated sequence
+     */
+    long index;
+
+    String eventId;
+    String eventType;
+    List<String> errors;
+}
@@ -0,0 +1,159 @@
+package com.bit.velocity.common.event.contract;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.events.EventContractValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link EventContractValidator} for {@link EventEnvelope}s, cheap enough to run on every publish and consume.
+ *
+ * Checks that the event type follows {@code <domain>.<context>.<entity>.<eventType>.v<majorVersion>},
+ * that the event id, source and timestamp are set, that a {@code version} of the form {@code v<N>[.<minor>...]}
+ * has the same major version as the event type, and that the payload matches the {@link PayloadSchema}
+ * registered for the event type. Event types without a schema are accepted unless schemas are required.
+ *
+ * The parsed name and schema of each event type are resolved once and cached, so validating a valid
+ * event of a known type allocates nothing.
+ */
+public class EnvelopeContractValidator implements EventContractValidator {
+
+    private static final int MAX_CACHED_TYPES = 10_000;
+
+    private final Map<String, PayloadSchema> schemas;
+    private final boolean schemaRequired;
+    private final Map<String, TypeContract> contracts = new ConcurrentHashMap<>();
+
+    /**
+     * @param schemas        payload schema per full event type, e.g. {@code ecommerce.catalog.product.created.v1}
+     * @param schemaRequired whether event types without a schema are rejected
+     */
+    public EnvelopeContractValidator(Map<String, PayloadSchema> schemas, boolean schemaRequired) {
+        this.schemas = Map.copyOf(schemas);
+        this.schemaRequired = schemaRequired;
+    }
+
+    /**
+     * Validator for the naming and envelope rules only
+     */
+    public EnvelopeContractValidator() {
+        this(Map.of(), false);
+    }
+
+    @Override
+    public boolean isValid(Object event) {
+        return event instanceof EventEnvelope envelope && validate(envelope).isValid();
+    }
+
+    public ValidationResult validate(EventEnvelope envelope) {
+        if (envelope == null) {
+            return ValidationResult.invalid(List.of("event is null"));
+        }
+        return ValidationResult.invalid(collectErrors(envelope));
+    }
+
+    /**
+     * Validate a sequence of events, e.g. before replaying them
+     *
+     * @return the invalid events with their positions, empty if all are valid
+     */
+    public List<ContractViolation> validateAll(Iterable<EventEnvelope> envelopes) {
+        List<ContractViolation> violations = new ArrayList<>();
+        long index = 0;
+        for (EventEnvelope envelope : envelopes) {
+            List<String> errors = envelope != null ? collectErrors(envelope) : List.of("event is null");
+            if (errors != null) {
+                violations.add(new ContractViolation(index,
+                        envelope != null ? envelope.getEventId() : null,
+                        envelope != null ? envelope.getEventType() : null,
+                        List.copyOf(errors)));
+            }
+            index++;
+        }
+        return violations;
+    }
+
+    /**
+     * @return the violations, or null if there are none
+     */
+    private List<String> collectErrors(EventEnvelope envelope) {
+        List<String> errors = null;
+        TypeContract contract = contract(envelope.getEventType());
+        if (contract.error() != null) {
+            errors = add(errors, contract.error());
+        }
+        if (envelope.getEventId() == null || envelope.getEventId().isEmpty()) {
+            errors = add(errors, "eventId is missing");
+        }
+        if (envelope.getSource() == null || envelope.getSource().isEmpty()) {
+            errors = add(errors, "source is missing");
+        }
+        if (envelope.getTimestamp() == null) {
+            errors = add(errors, "timestamp is missing");
+        }
+        int versionMajor = envelope.getVersion() != null ? majorVersion(envelope.getVersion()) : -1;
+        if (contract.name() != null && versionMajor >= 0 && versionMajor != contract.name().majorVersion()) {
+            errors = add(errors, "version '" + envelope.getVersion() + "' does not match event type major version v"
+                    + contract.name().majorVersion());
+        }
+        if (contract.schema() != null) {
+            errors = contract.schema().validate(envelope.getData(), errors);
+        }
+        return errors;
+    }
+
+    private TypeContract contract(String eventType) {
+        if (eventType == null) {
+            return TypeContract.MISSING;
+        }
+        TypeContract contract = contracts.get(eventType);
+        if (contract != null) {
+            return contract;
+        }
+        contract = compile(eventType);
+        // Bounded so that events with arbitrary types cannot grow the cache without limit
+        if (contracts.size() < MAX_CACHED_TYPES) {
+            contracts.putIfAbsent(eventType, contract);
+        }
+        return contract;
+    }
+
+    private TypeContract compile(String eventType) {
+        EventTypeName name;
+        try {
+            name = EventTypeName.parse(eventType);
+        } catch (IllegalArgumentException e) {
+            return new TypeContract(null, null, e.getMessage());
+        }
+        PayloadSchema schema = schemas.get(eventType);
+        if (schema == null && schemaRequired) {
+            return new TypeContract(name, null, "no payload schema registered for event type '" + eventType + "'");
+        }
+        return new TypeContract(name, schema, null);
+    }
+
+    /**
+     * Major version of {@code v<N>} or {@code v<N>.<minor>...}; -1 if the version has another form
+     */
+    private static int majorVersion(String version) {
+        int end = version.indexOf('.');
+        return EventTypeName.parseMajorVersion(version, 0, end < 0 ? version.length() : end);
+    }
+
+    private static List<String> add(List<String> errors, String error) {
+        List<String> list = errors != null ? errors : new ArrayList<>(2);
+        list.add(error);
+        return list;
+    }
+
+    /**
+     * Cached outcome of parsing an event type; {@code error} is set when the type itself is invalid
+     */
+    private record TypeContract(EventTypeName name, PayloadSchema schema, String error) {
+
+        static final TypeContract MISSING = new TypeContract(null, null, "eventType is missing");
+    }
+}
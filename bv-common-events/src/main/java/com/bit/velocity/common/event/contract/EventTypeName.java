@@ -0,0 +1,96 @@
+package com.bit.velocity.common.event.contract;
+
+/**
+ * Parsed event type following {@code <domain>.<context>.<entity>.<eventType>.v<majorVersion>},
+ * e.g. {@code ecommerce.catalog.product.created.v1}.
+ *
+ * Each name segment starts with a lowercase letter followed by lowercase letters, digits, '-' or '_'.
+ * The major version is a positive number without leading zeros.
+ */
+public record EventTypeName(String domain, String context, String entity, String eventType, int majorVersion) {
+
+    private static final int NAME_SEGMENTS = 4;
+
+    /**
+     * Parse an event type in a single pass over its characters
+     *
+     * @throws IllegalArgumentException describing the first violation
+     */
+    public static EventTypeName parse(String value) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Event type is empty");
+        }
+        String[] segments = new String[NAME_SEGMENTS];
+        int segment = 0;
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (i == start) {
+                    throw new IllegalArgumentException("Event type '" + value + "' has an empty segment at index " + i);
+                }
+                if (segment == NAME_SEGMENTS) {
+                    throw new IllegalArgumentException("Event type '" + value
+                            + "' must have 5 segments: <domain>.<context>.<entity>.<eventType>.v<majorVersion>");
+                }
+                segments[segment++] = value.substring(start, i);
+                start = i + 1;
+            } else if (segment < NAME_SEGMENTS && !isNameChar(c, i == start)) {
+                throw new IllegalArgumentException("Event type '" + value + "' has invalid character '" + c
+                        + "' at index " + i);
+            }
+        }
+        if (segment != NAME_SEGMENTS) {
+            throw new IllegalArgumentException("Event type '" + value
+                    + "' must have 5 segments: <domain>.<context>.<entity>.<eventType>.v<majorVersion>");
+        }
+        int majorVersion = parseMajorVersion(value, start, length);
+        if (majorVersion < 0) {
+            throw new IllegalArgumentException("Event type '" + value + "' must end with v<majorVersion>, e.g. v1");
+        }
+        return new EventTypeName(segments[0], segments[1], segments[2], segments[3], majorVersion);
+    }
+
+    /**
+     * Event type without its version, e.g. {@code ecommerce.catalog.product.created}
+     */
+    public String unversioned() {
+        return domain + '.' + context + '.' + entity + '.' + eventType;
+    }
+
+    @Override
+    public String toString() {
+        return unversioned() + ".v" + majorVersion;
+    }
+
+    private static boolean isNameChar(char c, boolean first) {
+        if (c >= 'a' && c <= 'z') {
+            return true;
+        }
+        return !first && ((c >= '0' && c <= '9') || c == '-' || c == '_');
+    }
+
+    /**
+     * Read {@code v<N>} between {@code start} and {@code end}
+     *
+     * @return the version, or -1 if the range has another form
+     */
+    static int parseMajorVersion(String value, int start, int end) {
+        if (end - start < 2 || value.charAt(start) != 'v' || value.charAt(start + 1) == '0') {
+            return -1;
+        }
+        long version = 0;
+        for (int i = start + 1; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            version = version * 10 + (c - '0');
+            if (version > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) version;
+    }
+}
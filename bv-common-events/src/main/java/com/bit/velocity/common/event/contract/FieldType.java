@@ -0,0 +1,74 @@
+package com.bit.velocity.common.event.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Value types a {@link PayloadSchema} field can require.
+ * Values are accepted as plain Java objects, including the maps and lists Jackson produces for untyped
+ * payloads, or as {@link JsonNode}s. Any other object counts as {@link #OBJECT}.
+ */
+public enum FieldType {
+
+    STRING {
+        @Override
+        boolean matches(Object value) {
+            return value instanceof CharSequence || value instanceof Enum<?>
+                    || value instanceof JsonNode node && node.isTextual();
+        }
+    },
+    NUMBER {
+        @Override
+        boolean matches(Object value) {
+            return value instanceof Number || value instanceof JsonNode node && node.isNumber();
+        }
+    },
+    INTEGER {
+        @Override
+        boolean matches(Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short
+                    || value instanceof Byte || value instanceof BigInteger
+                    || value instanceof BigDecimal decimal && decimal.stripTrailingZeros().scale() <= 0
+                    || value instanceof JsonNode node && node.isIntegralNumber();
+        }
+    },
+    BOOLEAN {
+        @Override
+        boolean matches(Object value) {
+            return value instanceof Boolean || value instanceof JsonNode node && node.isBoolean();
+        }
+    },
+    OBJECT {
+        @Override
+        boolean matches(Object value) {
+            if (value instanceof JsonNode node) {
+                return node.isObject();
+            }
+            return value instanceof Map<?, ?>
+                    || !(value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                    || value instanceof Enum<?> || value instanceof Collection<?> || value.getClass().isArray());
+        }
+    },
+    ARRAY {
+        @Override
+        boolean matches(Object value) {
+            return value instanceof Collection<?> || value.getClass().isArray()
+                    || value instanceof JsonNode node && node.isArray();
+        }
+    },
+    ANY {
+        @Override
+        boolean matches(Object value) {
+            return true;
+        }
+    };
+
+    /**
+     * Whether a non-null value has this type
+     */
+    abstract boolean matches(Object value);
+}
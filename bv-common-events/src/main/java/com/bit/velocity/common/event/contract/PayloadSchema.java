@@ -0,0 +1,194 @@
+package com.bit.velocity.common.event.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Required and optional top-level fields of an event payload, with their types.
+ *
+ * A schema is compiled into flat arrays when built. Payloads may be maps, {@link JsonNode}s or plain
+ * objects; for plain objects the field accessors (record components, getters or public fields)
+ * are resolved once per payload class and cached.
+ */
+public final class PayloadSchema {
+
+    private static final Object ABSENT = new Object();
+
+    private final String[] names;
+    private final FieldType[] types;
+    private final boolean[] required;
+    private final boolean anyRequired;
+
+    private final ClassValue<MethodHandle[]> accessors = new ClassValue<>() {
+        @Override
+        protected MethodHandle[] computeValue(Class<?> type) {
+            MethodHandle[] handles = new MethodHandle[names.length];
+            for (int i = 0; i < names.length; i++) {
+                handles[i] = findAccessor(type, names[i]);
+            }
+            return handles;
+        }
+    };
+
+    private PayloadSchema(Map<String, FieldSpec> fields) {
+        int size = fields.size();
+        this.names = new String[size];
+        this.types = new FieldType[size];
+        this.required = new boolean[size];
+        boolean anyRequired = false;
+        int i = 0;
+        for (Map.Entry<String, FieldSpec> entry : fields.entrySet()) {
+            names[i] = entry.getKey();
+            types[i] = entry.getValue().type();
+            required[i] = entry.getValue().required();
+            anyRequired |= required[i];
+            i++;
+        }
+        this.anyRequired = anyRequired;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Check a payload, adding a message per violation
+     *
+     * @param errors list to add to, or null to create one on the first violation
+     * @return the error list, still null if the payload is valid and none was passed in
+     */
+    List<String> validate(Object payload, List<String> errors) {
+        if (payload == null) {
+            return anyRequired ? add(errors, "payload is missing") : errors;
+        }
+        MethodHandle[] handles = payload instanceof Map<?, ?> || payload instanceof JsonNode
+                ? null
+                : accessors.get(payload.getClass());
+        for (int i = 0; i < names.length; i++) {
+            Object value = value(payload, i, handles);
+            if (value == null || value == ABSENT) {
+                if (required[i]) {
+                    errors = add(errors, "missing required field '" + names[i] + "'");
+                }
+            } else if (!types[i].matches(value)) {
+                errors = add(errors, "field '" + names[i] + "' must be " + types[i]);
+            }
+        }
+        return errors;
+    }
+
+    private Object value(Object payload, int field, MethodHandle[] handles) {
+        if (payload instanceof Map<?, ?> map) {
+            return map.get(names[field]);
+        }
+        if (payload instanceof JsonNode node) {
+            JsonNode child = node.get(names[field]);
+            return child == null || child.isNull() ? null : child;
+        }
+        MethodHandle handle = handles[field];
+        if (handle == null) {
+            return ABSENT;
+        }
+        try {
+            return handle.invoke(payload);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Cannot read field '" + names[field] + "' of "
+                    + payload.getClass().getName(), e);
+        }
+    }
+
+    private static List<String> add(List<String> errors, String error) {
+        List<String> list = errors != null ? errors : new ArrayList<>(2);
+        list.add(error);
+        return list;
+    }
+
+    /**
+     * Record component, getter, no-arg method of the same name or public field; null if there is none
+     */
+    private static MethodHandle findAccessor(Class<?> type, String name) {
+        try {
+            if (type.isRecord()) {
+                for (RecordComponent component : type.getRecordComponents()) {
+                    if (component.getName().equals(name)) {
+                        return unreflect(component.getAccessor());
+                    }
+                }
+            }
+            String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (String candidate : new String[]{"get" + suffix, "is" + suffix, name}) {
+                Method method = findMethod(type, candidate);
+                if (method != null) {
+                    return unreflect(method);
+                }
+            }
+            Field field = type.getField(name);
+            if (!Modifier.isStatic(field.getModifiers())) {
+                return MethodHandles.publicLookup().unreflectGetter(field);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            return null;
+        }
+        return null;
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            Method method = type.getMethod(name);
+            return method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers()) ? method : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        if (!method.trySetAccessible()) {
+            throw new IllegalAccessException("Cannot access " + method);
+        }
+        return MethodHandles.lookup().unreflect(method);
+    }
+
+    private record FieldSpec(FieldType type, boolean required) {
+    }
+
+    /**
+     * Collects field definitions; a field defined twice keeps the last definition
+     */
+    public static final class Builder {
+
+        private final Map<String, FieldSpec> fields = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder required(String name, FieldType type) {
+            return field(name, type, true);
+        }
+
+        public Builder optional(String name, FieldType type) {
+            return field(name, type, false);
+        }
+
+        public PayloadSchema build() {
+            return new PayloadSchema(fields);
+        }
+
+        private Builder field(String name, FieldType type, boolean required) {
+            if (name == null || name.isEmpty() || type == null) {
+                throw new IllegalArgumentException("Schema fields need a name and a type");
+            }
+            fields.put(name, new FieldSpec(type, required));
+            return this;
+        }
+    }
+}
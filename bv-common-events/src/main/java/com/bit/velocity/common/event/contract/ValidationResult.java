@@ -0,0 +1,31 @@
+package com.bit.velocity.common.event.contract;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Outcome of validating one event; valid results carry no allocation
+ */
+@Value
+public class ValidationResult {
+
+    private static final ValidationResult VALID = new ValidationResult(List.of());
+
+    /**
+     * Violation messages, empty when the event is valid
+     */
+    List<String> errors;
+
+    public static ValidationResult valid() {
+        return VALID;
+    }
+
+    public static ValidationResult invalid(List<String> errors) {
+        return errors == null || errors.isEmpty() ? VALID : new ValidationResult(List.copyOf(errors));
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
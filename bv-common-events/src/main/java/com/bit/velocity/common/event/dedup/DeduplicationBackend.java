@@ -0,0 +1,23 @@
+package com.bit.velocity.common.event.dedup;
+
+import java.time.Instant;
+
+/**
+ * Optional shared record of processed event ids, e.g. a database table or Redis, consulted when the
+ * local window has not seen an id. It lets duplicates be recognised after a restart or a partition
+ * rebalance moved the event to another node.
+ */
+public interface DeduplicationBackend {
+
+    /**
+     * Whether the id has been recorded and has not expired
+     */
+    boolean contains(String eventId);
+
+    /**
+     * Record the id until {@code expiresAt}; must be atomic across nodes
+     *
+     * @return true if the id was newly recorded, false if it was already present
+     */
+    boolean markSeen(String eventId, Instant expiresAt);
+}
@@ -0,0 +1,52 @@
+package com.bit.velocity.common.event.dedup;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * Settings for {@link EventDeduplicator}
+ */
+@Value
+@Builder
+public class DeduplicationConfig {
+
+    /**
+     * How long a processed event id is remembered
+     */
+    @Builder.Default
+    Duration window = Duration.ofMinutes(10);
+
+    /**
+     * Distinct event ids expected per window; sizes the Bloom filter and may not exceed {@link #exactCapacity}
+     */
+    @Builder.Default
+    long expectedIdsPerWindow = 100_000;
+
+    /**
+     * Bloom filter false positive rate, strictly between 0 and 1; a false positive only costs an exact lookup
+     */
+    @Builder.Default
+    double falsePositiveRate = 0.01;
+
+    /**
+     * Bloom filter generations, at least 2; ids are remembered for the whole window, and more generations
+     * expire them closer to its end
+     */
+    @Builder.Default
+    int generations = 4;
+
+    /**
+     * Event ids held exactly; the oldest are evicted beyond it. Must hold a full window of ids, since
+     * an id evicted early is no longer recognised as a duplicate locally.
+     */
+    @Builder.Default
+    int exactCapacity = 100_000;
+
+    /**
+     * Independently locked segments of the exact cache
+     */
+    @Builder.Default
+    int segments = 64;
+}
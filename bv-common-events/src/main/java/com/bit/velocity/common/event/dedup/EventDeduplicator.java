@@ -0,0 +1,138 @@
+package com.bit.velocity.common.event.dedup;
+
+import com.bit.velocity.common.event.codec.BinaryEnvelopeCodec;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Recognises redelivered events by {@code eventId} for idempotent consumers.
+ *
+ * Ids are remembered for a time window in a rolling Bloom filter and an exact, bounded LRU cache.
+ * The filter answers most lookups of new ids without touching the cache; ids it may contain are
+ * confirmed against the cache. Memory is fixed by the configuration: the cache must hold
+ * {@code expectedIdsPerWindow} ids, and if more distinct ids than {@code exactCapacity} still arrive within
+ * a window the oldest may no longer be recognised locally. An optional {@link DeduplicationBackend}, such as
+ * {@link RedisDeduplicationBackend}, covers that case and duplicates seen by other nodes.
+ *
+ * Duplicates can be rejected straight from encoded envelopes with {@link #isDuplicate(byte[])},
+ * before anything but the event id is decoded.
+ */
+public class EventDeduplicator {
+
+    private final RollingBloomFilter bloomFilter;
+    private final SeenEventCache seen;
+    private final DeduplicationBackend backend;
+    private final long windowMillis;
+
+    private final LongAdder duplicates = new LongAdder();
+
+    public EventDeduplicator(DeduplicationConfig config, DeduplicationBackend backend) {
+        if (config.getExactCapacity() < config.getExpectedIdsPerWindow()) {
+            throw new IllegalArgumentException("Exact capacity " + config.getExactCapacity()
+                    + " cannot hold the " + config.getExpectedIdsPerWindow() + " ids expected per window");
+        }
+        this.windowMillis = config.getWindow().toMillis();
+        this.bloomFilter = new RollingBloomFilter(config.getExpectedIdsPerWindow(), config.getFalsePositiveRate(),
+                config.getGenerations(), config.getWindow().toNanos());
+        this.seen = new SeenEventCache(config.getExactCapacity(), config.getSegments(), windowMillis);
+        this.backend = backend;
+    }
+
+    public EventDeduplicator(DeduplicationConfig config) {
+        this(config, null);
+    }
+
+    public EventDeduplicator() {
+        this(DeduplicationConfig.builder().build());
+    }
+
+    /**
+     * Whether the event was already processed within the window; does not record it
+     */
+    public boolean isDuplicate(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        long hash = RollingBloomFilter.hash(eventId);
+        boolean duplicate = bloomFilter.mightContain(hash) && seen.contains(eventId, hash, System.currentTimeMillis())
+                || backend != null && backend.contains(eventId);
+        if (duplicate) {
+            duplicates.increment();
+        }
+        return duplicate;
+    }
+
+    /**
+     * Whether this node processed the event within the window, without consulting the backend.
+     * For re-checking an event that already passed {@link #isDuplicate(String)} before it was queued.
+     */
+    public boolean isDuplicateLocally(String eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        long hash = RollingBloomFilter.hash(eventId);
+        boolean duplicate = bloomFilter.mightContain(hash) && seen.contains(eventId, hash, System.currentTimeMillis());
+        if (duplicate) {
+            duplicates.increment();
+        }
+        return duplicate;
+    }
+
+    /**
+     * Check an envelope encoded by {@link BinaryEnvelopeCodec} by reading only its event id
+     */
+    public boolean isDuplicate(byte[] encodedEnvelope) {
+        return isDuplicate(BinaryEnvelopeCodec.readEventId(encodedEnvelope));
+    }
+
+    /**
+     * Record a processed event, typically once its handlers succeeded
+     */
+    public void markProcessed(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+        long hash = RollingBloomFilter.hash(eventId);
+        seen.putIfAbsent(eventId, hash, System.currentTimeMillis());
+        bloomFilter.add(hash);
+        if (backend != null) {
+            backend.markSeen(eventId, Instant.now().plusMillis(windowMillis));
+        }
+    }
+
+    /**
+     * Check and record in one step, for consumers that process an event only when this returns true.
+     * Concurrent calls with the same id return true for exactly one caller on this node, and across nodes
+     * when a backend is configured.
+     */
+    public boolean firstSeen(String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        long hash = RollingBloomFilter.hash(eventId);
+        boolean first = seen.putIfAbsent(eventId, hash, System.currentTimeMillis());
+        bloomFilter.add(hash);
+        if (first && backend != null) {
+            first = backend.markSeen(eventId, Instant.now().plusMillis(windowMillis));
+        }
+        if (!first) {
+            duplicates.increment();
+        }
+        return first;
+    }
+
+    /**
+     * Number of duplicates recognised
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Number of ids currently held exactly
+     */
+    public int getTrackedCount() {
+        return seen.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.bit.velocity.common.event.dedup;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Redis-backed record of processed event ids shared by every node.
+ *
+ * Each id is a key {@code <prefix>:<eventId>} written with {@code SET NX PX}, so recording is atomic
+ * across nodes and Redis expires the id with the window.
+ */
+public class RedisDeduplicationBackend implements DeduplicationBackend {
+
+    private static final String SEEN = "1";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisDeduplicationBackend(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix + ":";
+    }
+
+    @Override
+    public boolean contains(String eventId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(keyPrefix + eventId));
+    }
+
+    @Override
+    public boolean markSeen(String eventId, Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+        if (ttl.toMillis() <= 0) {
+            ttl = Duration.ofMillis(1);
+        }
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + eventId, SEEN, ttl));
+    }
+}
@@ -0,0 +1,143 @@
+package com.bit.velocity.common.event.dedup;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Time-windowed Bloom filter made of rotating generations.
+ *
+ * Ids are added to the current generation and looked up in all of them. Every {@code window / (generations - 1)}
+ * the oldest generation is cleared and becomes the current one, so an id is remembered for between
+ * {@code window} and {@code window * generations / (generations - 1)}, and memory stays fixed however
+ * many windows pass. Bits are set lock-free; only rotation is serialized.
+ */
+final class RollingBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray[] generations;
+    private final long mask;
+    private final int hashes;
+    private final long rotationNanos;
+
+    private volatile int current;
+    private volatile long rotateAtNanos;
+
+    /**
+     * @param expectedIds       ids added per window
+     * @param falsePositiveRate target rate across all generations
+     */
+    RollingBloomFilter(long expectedIds, double falsePositiveRate, int generationCount, long windowNanos) {
+        if (expectedIds <= 0) {
+            throw new IllegalArgumentException("Expected ids must be positive, was " + expectedIds);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1, was " + falsePositiveRate);
+        }
+        int count = Math.max(2, generationCount);
+        // The generations before the current one cover the whole window, each holding its share of it,
+        // and all are probed on every lookup
+        long entries = Math.max(expectedIds / (count - 1), 64);
+        double rate = falsePositiveRate / count;
+        double optimalBits = -entries * Math.log(rate) / (Math.log(2) * Math.log(2));
+        long bits = Math.max(Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1, 64);
+        if (bits >>> 6 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter for " + expectedIds + " ids is too large");
+        }
+        this.mask = bits - 1;
+        this.hashes = Math.min(16, Math.max(1, (int) Math.round((double) bits / entries * Math.log(2))));
+        this.generations = new AtomicLongArray[count];
+        for (int i = 0; i < count; i++) {
+            generations[i] = new AtomicLongArray((int) (bits >>> 6));
+        }
+        this.rotationNanos = Math.max(1, (windowNanos + count - 2) / (count - 1));
+        this.rotateAtNanos = System.nanoTime() + rotationNanos;
+    }
+
+    void add(long hash) {
+        rotateIfDue();
+        AtomicLongArray words = generations[current];
+        long step = (hash >>> 32) | 1;
+        long probe = hash;
+        for (int i = 0; i < hashes; i++) {
+            long bit = probe & mask;
+            int index = (int) (bit >>> 6);
+            long bitMask = 1L << bit;
+            long word = words.get(index);
+            while ((word & bitMask) == 0 && !words.compareAndSet(index, word, word | bitMask)) {
+                word = words.get(index);
+            }
+            probe += step;
+        }
+    }
+
+    boolean mightContain(long hash) {
+        rotateIfDue();
+        long step = (hash >>> 32) | 1;
+        for (AtomicLongArray words : generations) {
+            long probe = hash;
+            boolean found = true;
+            for (int i = 0; i < hashes && found; i++) {
+                long bit = probe & mask;
+                found = (words.get((int) (bit >>> 6)) & (1L << bit)) != 0;
+                probe += step;
+            }
+            if (found) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Size of all generations in bytes
+     */
+    long sizeInBytes() {
+        return (long) generations.length * ((mask + 1) >>> 3);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer
+     */
+    static long hash(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private void rotateIfDue() {
+        if (System.nanoTime() - rotateAtNanos >= 0) {
+            rotate();
+        }
+    }
+
+    /**
+     * Clear the oldest generation and make it current; after an idle period every elapsed slot is cleared
+     */
+    private synchronized void rotate() {
+        long now = System.nanoTime();
+        int rotations = 0;
+        while (now - rotateAtNanos >= 0 && rotations < generations.length) {
+            int next = (current + 1) % generations.length;
+            AtomicLongArray words = generations[next];
+            for (int i = 0; i < words.length(); i++) {
+                words.setPlain(i, 0L);
+            }
+            // The volatile write publishes the cleared words to threads that read the new index
+            current = next;
+            rotateAtNanos += rotationNanos;
+            rotations++;
+        }
+        if (now - rotateAtNanos >= 0) {
+            rotateAtNanos = now + rotationNanos;
+        }
+    }
+}
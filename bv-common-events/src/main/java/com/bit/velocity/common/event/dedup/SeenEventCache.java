@@ -0,0 +1,88 @@
+package com.bit.velocity.common.event.dedup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exact, bounded record of recently seen event ids with the time they were seen.
+ * Split into independently locked LRU segments so concurrent consumers rarely contend.
+ */
+final class SeenEventCache {
+
+    private final Segment[] segments;
+    private final long windowMillis;
+
+    SeenEventCache(int capacity, int segmentCount, long windowMillis) {
+        int count = Integer.highestOneBit(Math.max(1, segmentCount - 1)) << 1;
+        int perSegment = Math.max(16, (capacity + count - 1) / count);
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Whether the id was seen within the window
+     */
+    boolean contains(String eventId, long hash, long nowMillis) {
+        Segment segment = segment(hash);
+        synchronized (segment) {
+            Long seenAt = segment.get(eventId);
+            if (seenAt == null) {
+                return false;
+            }
+            if (nowMillis - seenAt >= windowMillis) {
+                segment.remove(eventId);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Record the id unless it was already seen within the window
+     *
+     * @return true if the id was recorded, false if it is a duplicate
+     */
+    boolean putIfAbsent(String eventId, long hash, long nowMillis) {
+        Segment segment = segment(hash);
+        synchronized (segment) {
+            Long seenAt = segment.get(eventId);
+            if (seenAt != null && nowMillis - seenAt < windowMillis) {
+                return false;
+            }
+            segment.put(eventId, nowMillis);
+            return true;
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private Segment segment(long hash) {
+        return segments[(int) (hash >>> 40) & (segments.length - 1)];
+    }
+
+    private static final class Segment extends LinkedHashMap<String, Long> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(Math.min(capacity, 1024), 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > capacity;
+        }
+    }
+}
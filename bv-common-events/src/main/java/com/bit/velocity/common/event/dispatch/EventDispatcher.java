@@ -0,0 +1,318 @@
+package com.bit.velocity.common.event.dispatch;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.event.codec.BinaryEnvelopeCodec;
+import com.bit.velocity.common.event.codec.EnvelopeHeader;
+import com.bit.velocity.common.event.dedup.EventDeduplicator;
+import com.bit.velocity.common.events.EventListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Delivers {@link EventEnvelope}s to the {@link EventListener} methods of a fixed set of listener objects.
+ *
+ * Listener methods are found and bound once, when the dispatcher is created, into a routing table from
+ * event type to listeners that never changes afterwards. Listeners with an empty
+ * {@link EventListener#value()} receive every event.
+ *
+ * Events run on single-threaded workers chosen by partition key: the configured metadata entry, else the
+ * correlation id, else the event id. Events with the same key are handled one at a time in dispatch
+ * order, while different keys spread across all workers. A failing listener is logged and does not stop
+ * the other listeners of the event, nor its worker.
+ *
+ * With an {@link EventDeduplicator}, events already processed are dropped when dispatched, encoded
+ * envelopes before their payload is decoded, and an event is recorded as processed once all its listeners
+ * succeeded. Right before delivery events are checked again against this node only, for copies queued
+ * while the first was still pending.
+ */
+@Slf4j
+public class EventDispatcher implements AutoCloseable {
+
+    private static final ListenerMethod[] NO_LISTENERS = new ListenerMethod[0];
+    private static final EventEnvelope STOP = new EventEnvelope();
+
+    private final EventDispatcherConfig config;
+    private final Map<String, ListenerMethod[]> routes;
+    private final ListenerMethod[] wildcardListeners;
+    private final BlockingQueue<EventEnvelope>[] queues;
+    private final Thread[] workers;
+    private final EventDeduplicator deduplicator;
+
+    private volatile boolean running = true;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder unrouted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    /**
+     * @param deduplicator drops redelivered events, or null to deliver every event
+     */
+    @SuppressWarnings("unchecked")
+    public EventDispatcher(Collection<?> listeners, EventDispatcherConfig config, EventDeduplicator deduplicator) {
+        this.config = config;
+        this.deduplicator = deduplicator;
+
+        Map<String, List<ListenerMethod>> byType = new LinkedHashMap<>();
+        List<ListenerMethod> wildcard = new ArrayList<>();
+        for (Object listener : listeners) {
+            for (ListenerMethod method : ListenerMethod.scan(listener)) {
+                if (method.eventType().isEmpty()) {
+                    wildcard.add(method);
+                } else {
+                    byType.computeIfAbsent(method.eventType(), type -> new ArrayList<>()).add(method);
+                }
+            }
+        }
+        this.wildcardListeners = wildcard.toArray(NO_LISTENERS);
+        Map<String, ListenerMethod[]> table = new HashMap<>();
+        byType.forEach((type, methods) -> {
+            List<ListenerMethod> route = new ArrayList<>(methods);
+            route.addAll(wildcard);
+            table.put(type, route.toArray(NO_LISTENERS));
+        });
+        this.routes = Map.copyOf(table);
+
+        int workerCount = Math.max(1, config.getWorkers());
+        this.queues = new BlockingQueue[workerCount];
+        this.workers = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<EventEnvelope> queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+            queues[i] = queue;
+            workers[i] = new Thread(() -> workLoop(queue), config.getThreadNamePrefix() + "-" + i);
+            workers[i].setDaemon(true);
+            workers[i].start();
+        }
+        log.info("Event dispatcher started with {} routed event types, {} catch-all listeners and {} workers",
+                routes.size(), wildcardListeners.length, workerCount);
+    }
+
+    public EventDispatcher(Collection<?> listeners, EventDispatcherConfig config) {
+        this(listeners, config, null);
+    }
+
+    public EventDispatcher(Collection<?> listeners) {
+        this(listeners, EventDispatcherConfig.builder().build());
+    }
+
+    /**
+     * Queue an event for its listeners, blocking while the worker of its partition is full.
+     * Duplicates and events without listeners are discarded immediately.
+     */
+    public void dispatch(EventEnvelope envelope) {
+        begin();
+        try {
+            if (isDuplicate(envelope.getEventId())) {
+                return;
+            }
+            if (!hasListeners(envelope.getEventType())) {
+                unrouted.increment();
+                return;
+            }
+            enqueue(envelope);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Dispatch an envelope encoded by {@code codec}. Duplicates and events without listeners are
+     * discarded after reading only the envelope header; the payload is decoded for delivered events only.
+     */
+    public void dispatch(byte[] encodedEnvelope, BinaryEnvelopeCodec codec) {
+        begin();
+        try {
+            if (deduplicator != null && isDuplicate(BinaryEnvelopeCodec.readEventId(encodedEnvelope))) {
+                return;
+            }
+            EnvelopeHeader header = codec.decodeHeader(encodedEnvelope);
+            if (!hasListeners(header.getEventType())) {
+                unrouted.increment();
+                return;
+            }
+            enqueue(header.toEnvelope(codec.decodePayload(encodedEnvelope, header)));
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * Whether any listener receives events of this type
+     */
+    public boolean hasListeners(String eventType) {
+        return listenersFor(eventType).length > 0;
+    }
+
+    /**
+     * Number of events handed to their listeners
+     */
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Number of events discarded because no listener receives their type
+     */
+    public long getUnroutedCount() {
+        return unrouted.sum();
+    }
+
+    /**
+     * Number of listener invocations that threw
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Number of events dropped as already processed
+     */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Stop accepting events and wait until the queued ones have been handled. Dispatches already
+     * past the closed check are enqueued before the workers are told to stop.
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        while (inFlight.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        for (BlockingQueue<EventEnvelope> queue : queues) {
+            try {
+                queue.put(STOP);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Register a dispatch in flight, re-checking after registering so that {@link #close()} either
+     * sees it or it sees the dispatcher closed.
+     */
+    private void begin() {
+        inFlight.incrementAndGet();
+        if (!running) {
+            inFlight.decrementAndGet();
+            throw new IllegalStateException("Event dispatcher is closed");
+        }
+    }
+
+    private void enqueue(EventEnvelope envelope) {
+        try {
+            queues[partition(envelope)].put(envelope);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while dispatching event " + envelope.getEventId(), e);
+        }
+    }
+
+    private boolean isDuplicate(String eventId) {
+        if (deduplicator == null || !deduplicator.isDuplicate(eventId)) {
+            return false;
+        }
+        duplicates.increment();
+        return true;
+    }
+
+    private ListenerMethod[] listenersFor(String eventType) {
+        ListenerMethod[] listeners = eventType != null ? routes.get(eventType) : null;
+        return listeners != null ? listeners : wildcardListeners;
+    }
+
+    private int partition(EventEnvelope envelope) {
+        String key = null;
+        Map<String, String> metadata = envelope.getMetadata();
+        if (metadata != null) {
+            key = metadata.get(config.getPartitionKey());
+        }
+        if (key == null) {
+            key = envelope.getCorrelationId();
+        }
+        if (key == null) {
+            key = envelope.getEventId();
+        }
+        if (key == null || queues.length == 1) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), queues.length);
+    }
+
+    private void workLoop(BlockingQueue<EventEnvelope> queue) {
+        while (true) {
+            EventEnvelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (envelope == STOP) {
+                return;
+            }
+            try {
+                deliver(envelope);
+            } catch (Throwable e) {
+                log.error("Event dispatcher failed to deliver event {} ({}): {}", envelope.getEventId(),
+                        envelope.getEventType(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Deliver to every listener. Redeliveries of one event share a partition, so a copy queued while
+     * the first was pending is recognised here once the first has been recorded. The shared backend was
+     * already consulted at dispatch, so only this node's record is checked.
+     */
+    private void deliver(EventEnvelope envelope) {
+        if (deduplicator != null && deduplicator.isDuplicateLocally(envelope.getEventId())) {
+            duplicates.increment();
+            return;
+        }
+        boolean succeeded = true;
+        for (ListenerMethod listener : listenersFor(envelope.getEventType())) {
+            try {
+                listener.invoke(envelope);
+            } catch (Throwable e) {
+                succeeded = false;
+                failed.increment();
+                log.error("Event listener {} failed for event {} ({}): {}", listener.name(),
+                        envelope.getEventId(), envelope.getEventType(), e.getMessage(), e);
+            }
+        }
+        if (succeeded && deduplicator != null) {
+            deduplicator.markProcessed(envelope.getEventId());
+        }
+        dispatched.increment();
+    }
+}
@@ -0,0 +1,37 @@
+package com.bit.velocity.common.event.dispatch;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Settings for {@link EventDispatcher}
+ */
+@Value
+@Builder
+public class EventDispatcherConfig {
+
+    /**
+     * Number of worker threads; events of one partition key always run on the same worker
+     */
+    @Builder.Default
+    int workers = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Events queued per worker before {@link EventDispatcher#dispatch} blocks
+     */
+    @Builder.Default
+    int queueCapacity = 1024;
+
+    /**
+     * Metadata key holding the partition key; events without it are partitioned by
+     * correlation id, then by event id
+     */
+    @Builder.Default
+    String partitionKey = "partitionKey";
+
+    /**
+     * Prefix of the worker thread names
+     */
+    @Builder.Default
+    String threadNamePrefix = "bv-event-dispatch";
+}
@@ -0,0 +1,121 @@
+package com.bit.velocity.common.event.dispatch;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.events.EventListener;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An {@link EventListener} method bound to its listener object.
+ * Binding happens once: through {@link LambdaMetafactory}, so an invocation is a plain interface call,
+ * or through a bound {@link MethodHandle} where a lambda cannot be spun, e.g. for classes hidden by
+ * their module or class loader.
+ */
+final class ListenerMethod {
+
+    private static final MethodType CONSUMER_ERASED = MethodType.methodType(void.class, Object.class);
+
+    private final String eventType;
+    private final String name;
+    private final Consumer<EventEnvelope> invoker;
+
+    private ListenerMethod(String eventType, String name, Consumer<EventEnvelope> invoker) {
+        this.eventType = eventType;
+        this.name = name;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Event type the method listens to; empty for every event type
+     */
+    String eventType() {
+        return eventType;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void invoke(EventEnvelope envelope) {
+        invoker.accept(envelope);
+    }
+
+    /**
+     * Find and bind every {@link EventListener} method of a listener, including inherited ones.
+     * Methods must be non-static and take a single {@link EventEnvelope} parameter.
+     */
+    static List<ListenerMethod> scan(Object listener) {
+        List<ListenerMethod> methods = new ArrayList<>();
+        Set<String> overridden = new HashSet<>();
+        for (Class<?> type = listener.getClass(); type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                EventListener annotation = method.getAnnotation(EventListener.class);
+                if (annotation == null || method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                // An annotated override is bound once; the handle dispatches virtually either way
+                if (!overridden.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    continue;
+                }
+                checkSignature(method);
+                String name = type.getName() + "#" + method.getName();
+                methods.add(new ListenerMethod(annotation.value(), name, bind(listener, type, method)));
+            }
+        }
+        return methods;
+    }
+
+    private static void checkSignature(Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 1
+                || !method.getParameterTypes()[0].isAssignableFrom(EventEnvelope.class)) {
+            throw new IllegalArgumentException("@EventListener method " + method
+                    + " must be non-static and take a single EventEnvelope parameter");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<EventEnvelope> bind(Object listener, Class<?> declaringType, Method method) {
+        MethodHandle handle;
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(declaringType, MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("@EventListener method " + method + " is not accessible", e);
+        }
+
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(Consumer.class, declaringType),
+                    CONSUMER_ERASED,
+                    handle,
+                    MethodType.methodType(void.class, EventEnvelope.class));
+            return (Consumer<EventEnvelope>) site.getTarget().invoke(listener);
+        } catch (Throwable e) {
+            MethodHandle bound = handle.bindTo(listener)
+                    .asType(MethodType.methodType(void.class, EventEnvelope.class));
+            return envelope -> {
+                try {
+                    bound.invokeExact(envelope);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new IllegalStateException(ex);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.event.EventPublisher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous {@link EventPublisher} that buffers events in a bounded lock-free ring buffer
+ * and delivers them in batches from a single drain thread.
+ *
+ * A batch is sent once it reaches {@code maxBatchSize} or its first event has waited for
+ * {@code linger}. Each event's future completes when the {@link EventTransport} acknowledges it.
+ * The blocking {@link #publish(EventEnvelope)} methods wait for that acknowledgement, at most
+ * {@code deliveryTimeout}. If the drain thread dies, the publisher stops and fails every pending event.
+ */
+@Slf4j
+public class AsyncEventPublisher implements EventPublisher, AutoCloseable {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final EventTransport transport;
+    private final AsyncEventPublisherConfig config;
+    private final MpscRingBuffer<PendingEvent> buffer;
+    private final long lingerNanos;
+    private final Thread drainThread;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile boolean drainParked;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public AsyncEventPublisher(EventTransport transport, AsyncEventPublisherConfig config) {
+        this.transport = transport;
+        this.config = config;
+        this.buffer = new MpscRingBuffer<>(config.getBufferSize());
+        this.lingerNanos = config.getLinger().toNanos();
+        this.drainThread = new Thread(this::drainLoop, config.getThreadName());
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    public AsyncEventPublisher(EventTransport transport) {
+        this(transport, AsyncEventPublisherConfig.builder().build());
+    }
+
+    @Override
+    public void publish(EventEnvelope eventEnvelope) {
+        await(publishAsync(eventEnvelope));
+    }
+
+    @Override
+    public void publish(String topic, EventEnvelope eventEnvelope) {
+        await(publishAsync(topic, eventEnvelope));
+    }
+
+    /**
+     * Publish to the topic chosen by the configured topic resolver
+     */
+    public CompletableFuture<Void> publishAsync(EventEnvelope eventEnvelope) {
+        return publishAsync(config.getTopicResolver().apply(eventEnvelope), eventEnvelope);
+    }
+
+    /**
+     * Buffer an event for delivery to {@code topic}
+     *
+     * @return a future completed when the transport acknowledges the event
+     * @throws EventPublishException if the buffer is full and the strategy is FAIL, or BLOCK timed out
+     */
+    public CompletableFuture<Void> publishAsync(String topic, EventEnvelope eventEnvelope) {
+        if (!running) {
+            throw new EventPublishException(closed.get() ? "Event publisher is closed" : "Event publisher has stopped");
+        }
+
+        PendingEvent event = new PendingEvent(topic, eventEnvelope);
+        if (!buffer.offer(event) && !handleFullBuffer(event)) {
+            return event.ack();
+        }
+
+        if (drainParked) {
+            LockSupport.unpark(drainThread);
+        }
+        return event.ack();
+    }
+
+    /**
+     * Number of events acknowledged by the transport
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Number of events discarded because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of events the transport failed to deliver
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Number of events waiting in the buffer
+     */
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stop accepting events, deliver everything already buffered and close the transport
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Events offered concurrently with shutdown, after the drain thread's last poll
+        failBuffered(new EventPublishException("Event publisher is closed"));
+        try {
+            transport.close();
+        } catch (Exception e) {
+            log.warn("Failed to close event transport: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply the backpressure strategy
+     *
+     * @return true once the event is buffered, false if it was dropped
+     */
+    private boolean handleFullBuffer(PendingEvent event) {
+        switch (config.getBackpressure()) {
+            case DROP -> {
+                dropped.increment();
+                event.fail(new EventPublishException("Event buffer full, event dropped"));
+                return false;
+            }
+            case FAIL -> throw new EventPublishException("Event buffer full");
+            default -> {
+                long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+                do {
+                    LockSupport.unpark(drainThread);
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (buffer.offer(event)) {
+                        return true;
+                    }
+                } while (running && System.nanoTime() - deadline < 0);
+                throw new EventPublishException("Event buffer full, timed out after " + config.getBlockTimeout());
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingEvent> batch = new ArrayList<>(config.getMaxBatchSize());
+        try {
+            drain(batch);
+        } catch (Throwable e) {
+            running = false;
+            log.error("Event publisher drain thread stopped", e);
+            EventPublishException failure = new EventPublishException("Event publisher has stopped", e);
+            for (PendingEvent event : batch) {
+                event.fail(failure);
+            }
+            failBuffered(failure);
+        }
+    }
+
+    private void drain(List<PendingEvent> batch) {
+        while (running || !buffer.isEmpty()) {
+            PendingEvent first = buffer.poll();
+            if (first == null) {
+                parkUntilPublished();
+                continue;
+            }
+
+            batch.add(first);
+            long deadline = System.nanoTime() + lingerNanos;
+            while (batch.size() < config.getMaxBatchSize()) {
+                PendingEvent next = buffer.poll();
+                if (next != null) {
+                    batch.add(next);
+                    continue;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    break;
+                }
+                LockSupport.parkNanos(remaining);
+            }
+
+            dispatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Park until a producer signals new events; the recheck after raising the flag closes the race
+     * with a producer that published just before it
+     */
+    private void parkUntilPublished() {
+        drainParked = true;
+        if (buffer.isEmpty() && running) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+        drainParked = false;
+    }
+
+    private void dispatch(List<PendingEvent> batch) {
+        for (PendingEvent event : batch) {
+            event.ack().whenComplete((ignored, error) -> {
+                if (error == null) {
+                    published.increment();
+                } else {
+                    failed.increment();
+                }
+            });
+        }
+        try {
+            transport.send(batch);
+        } catch (Throwable e) {
+            log.warn("Event transport failed for a batch of {} events: {}", batch.size(), e.toString());
+            for (PendingEvent event : batch) {
+                if (!event.isDone()) {
+                    event.fail(e);
+                }
+            }
+        }
+    }
+
+    private void failBuffered(EventPublishException failure) {
+        PendingEvent leftover;
+        while ((leftover = buffer.poll()) != null) {
+            leftover.fail(failure);
+        }
+    }
+
+    private void await(CompletableFuture<Void> ack) {
+        try {
+            ack.get(config.getDeliveryTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof EventPublishException publishException) {
+                throw publishException;
+            }
+            throw new EventPublishException("Event delivery failed", cause);
+        } catch (TimeoutException e) {
+            throw new EventPublishException("Event delivery timed out after " + config.getDeliveryTimeout());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventPublishException("Interrupted while awaiting event delivery", e);
+        }
+    }
+}
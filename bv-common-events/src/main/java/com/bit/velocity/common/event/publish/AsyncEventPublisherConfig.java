@@ -0,0 +1,64 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Settings for {@link AsyncEventPublisher}
+ */
+@Value
+@Builder
+public class AsyncEventPublisherConfig {
+
+    /**
+     * Buffered events awaiting delivery, rounded up to a power of two
+     */
+    @Builder.Default
+    int bufferSize = 8192;
+
+    /**
+     * Maximum number of events handed to the transport at once
+     */
+    @Builder.Default
+    int maxBatchSize = 500;
+
+    /**
+     * How long a partial batch waits for more events before it is sent
+     */
+    @Builder.Default
+    Duration linger = Duration.ofMillis(5);
+
+    /**
+     * Behaviour when the buffer is full
+     */
+    @Builder.Default
+    BackpressureStrategy backpressure = BackpressureStrategy.BLOCK;
+
+    /**
+     * Maximum wait for buffer space with {@link BackpressureStrategy#BLOCK}
+     */
+    @Builder.Default
+    Duration blockTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Maximum wait of the blocking {@code publish} methods for the transport's acknowledgement
+     */
+    @Builder.Default
+    Duration deliveryTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Topic for events published without an explicit topic; defaults to the event type
+     */
+    @Builder.Default
+    Function<EventEnvelope, String> topicResolver = EventEnvelope::getEventType;
+
+    /**
+     * Name of the drain thread
+     */
+    @Builder.Default
+    String threadName = "bv-event-publisher";
+}
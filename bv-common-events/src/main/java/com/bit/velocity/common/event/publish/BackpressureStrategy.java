@@ -0,0 +1,22 @@
+package com.bit.velocity.common.event.publish;
+
+/**
+ * What {@link AsyncEventPublisher} does when its buffer is full
+ */
+public enum BackpressureStrategy {
+
+    /**
+     * Wait for free space up to the configured block timeout, then fail
+     */
+    BLOCK,
+
+    /**
+     * Discard the event; its future completes exceptionally and the drop is counted
+     */
+    DROP,
+
+    /**
+     * Throw {@link EventPublishException} to the caller immediately
+     */
+    FAIL
+}
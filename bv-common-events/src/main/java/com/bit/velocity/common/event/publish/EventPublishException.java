@@ -0,0 +1,15 @@
+package com.bit.velocity.common.event.publish;
+
+/**
+ * Raised when an event cannot be accepted or delivered
+ */
+public class EventPublishException extends RuntimeException {
+
+    public EventPublishException(String message) {
+        super(message);
+    }
+
+    public EventPublishException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bit.velocity.common.event.publish;
+
+import java.util.List;
+
+/**
+ * Transport SPI used by {@link AsyncEventPublisher} to deliver batches of events.
+ *
+ * {@link #send(List)} is called from the publisher's single drain thread. Implementations must
+ * eventually {@link PendingEvent#complete() complete} or {@link PendingEvent#fail(Throwable) fail}
+ * every event of the batch, synchronously or from their own callback threads; events still
+ * pending when {@code send} throws are failed by the publisher. The list must not be retained.
+ */
+public interface EventTransport extends AutoCloseable {
+
+    /**
+     * Deliver a batch of events, possibly spanning several topics
+     */
+    void send(List<PendingEvent> batch);
+
+    /**
+     * Flush outstanding deliveries and release resources
+     */
+    @Override
+    default void close() {
+    }
+}
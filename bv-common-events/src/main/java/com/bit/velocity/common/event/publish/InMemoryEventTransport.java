@@ -0,0 +1,63 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Transport that keeps delivered events in memory per topic, for tests and local development.
+ * Events are acknowledged as soon as they are stored.
+ */
+public class InMemoryEventTransport implements EventTransport {
+
+    private final Map<String, List<EventEnvelope>> topics = new ConcurrentHashMap<>();
+    private final Consumer<EventEnvelope> subscriber;
+
+    public InMemoryEventTransport() {
+        this(envelope -> {
+        });
+    }
+
+    /**
+     * @param subscriber called on the drain thread for every delivered event
+     */
+    public InMemoryEventTransport(Consumer<EventEnvelope> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void send(List<PendingEvent> batch) {
+        for (PendingEvent event : batch) {
+            List<EventEnvelope> events = topics.computeIfAbsent(event.getTopic(), topic -> new ArrayList<>());
+            synchronized (events) {
+                events.add(event.getEnvelope());
+            }
+            subscriber.accept(event.getEnvelope());
+            event.complete();
+        }
+    }
+
+    /**
+     * Snapshot of the events delivered to a topic, in delivery order
+     */
+    public List<EventEnvelope> getEvents(String topic) {
+        List<EventEnvelope> events = topics.get(topic);
+        if (events == null) {
+            return List.of();
+        }
+        synchronized (events) {
+            return List.copyOf(events);
+        }
+    }
+
+    /**
+     * Forget all delivered events
+     */
+    public void clear() {
+        topics.clear();
+    }
+}
@@ -0,0 +1,33 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.util.function.Function;
+
+/**
+ * Default JSON encoding of envelopes for transports that carry bytes
+ */
+public class JsonEventSerializer implements Function<EventEnvelope, byte[]> {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonEventSerializer() {
+        this(new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    public JsonEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte[] apply(EventEnvelope envelope) {
+        try {
+            return objectMapper.writeValueAsBytes(envelope);
+        } catch (JsonProcessingException e) {
+            throw new EventPublishException("Cannot serialize event " + envelope.getEventId(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Transport for Kafka-compatible brokers, e.g. the local Redpanda in scripts/dev/docker-compose.infra.yml.
+ * Requires kafka-clients on the application classpath.
+ *
+ * Records are keyed by the envelope's correlation id, falling back to the event id, so events of one
+ * flow land in the same partition. The event id and type are also sent as headers so consumers can
+ * route and deduplicate without decoding the value. Each event is acknowledged from its producer callback.
+ */
+public class KafkaEventTransport implements EventTransport {
+
+    public static final String EVENT_ID_HEADER = "eventId";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Producer<String, byte[]> producer;
+    private final Function<EventEnvelope, byte[]> serializer;
+
+    /**
+     * @param producerConfig Kafka producer settings, at least {@code bootstrap.servers}; serializers are set here
+     * @param serializer     encodes the envelope into the record value
+     */
+    public KafkaEventTransport(Properties producerConfig, Function<EventEnvelope, byte[]> serializer) {
+        Properties config = new Properties();
+        config.putAll(producerConfig);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
+        this.producer = new KafkaProducer<>(config);
+        this.serializer = serializer;
+    }
+
+    public KafkaEventTransport(Producer<String, byte[]> producer, Function<EventEnvelope, byte[]> serializer) {
+        this.producer = producer;
+        this.serializer = serializer;
+    }
+
+    @Override
+    public void send(List<PendingEvent> batch) {
+        for (PendingEvent event : batch) {
+            EventEnvelope envelope = event.getEnvelope();
+            ProducerRecord<String, byte[]> record;
+            try {
+                record = new ProducerRecord<>(event.getTopic(), key(envelope), serializer.apply(envelope));
+            } catch (RuntimeException e) {
+                event.fail(e);
+                continue;
+            }
+            if (envelope.getEventId() != null) {
+                record.headers().add(EVENT_ID_HEADER, envelope.getEventId().getBytes(StandardCharsets.UTF_8));
+            }
+            if (envelope.getEventType() != null) {
+                record.headers().add(EVENT_TYPE_HEADER, envelope.getEventType().getBytes(StandardCharsets.UTF_8));
+            }
+            producer.send(record, (metadata, error) -> {
+                if (error == null) {
+                    event.complete();
+                } else {
+                    event.fail(error);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        producer.close(CLOSE_TIMEOUT);
+    }
+
+    private static String key(EventEnvelope envelope) {
+        return envelope.getCorrelationId() != null ? envelope.getCorrelationId() : envelope.getEventId();
+    }
+}
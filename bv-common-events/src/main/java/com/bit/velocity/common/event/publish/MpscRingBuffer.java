@@ -0,0 +1,81 @@
+package com.bit.velocity.common.event.publish;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ *
+ * Producers claim a slot by CAS on the producer index and then publish the element into it;
+ * the consumer takes elements in claim order and frees slots by advancing the consumer index.
+ * A claimed slot whose element is not yet visible is waited for with a short spin.
+ */
+final class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final int capacity;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.capacity = size;
+    }
+
+    /**
+     * Add an element, returning false if the buffer is full
+     */
+    boolean offer(E element) {
+        while (true) {
+            long index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+            if (producerIndex.compareAndSet(index, index + 1)) {
+                slots.lazySet((int) index & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Take the next element, or null if the buffer is empty. Must only be called by the consumer thread.
+     */
+    E poll() {
+        long index = consumerIndex.get();
+        int slot = (int) index & mask;
+        E element = slots.get(slot);
+        if (element == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // Slot claimed, element about to be written
+            do {
+                Thread.onSpinWait();
+                element = slots.get(slot);
+            } while (element == null);
+        }
+        slots.lazySet(slot, null);
+        consumerIndex.lazySet(index + 1);
+        return element;
+    }
+
+    boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    int size() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,50 @@
+package com.bit.velocity.common.event.publish;
+
+import com.bit.velocity.common.event.EventEnvelope;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An event accepted by {@link AsyncEventPublisher} and awaiting acknowledgement by the transport
+ */
+public final class PendingEvent {
+
+    private final String topic;
+    private final EventEnvelope envelope;
+    private final CompletableFuture<Void> ack = new CompletableFuture<>();
+
+    PendingEvent(String topic, EventEnvelope envelope) {
+        this.topic = topic;
+        this.envelope = envelope;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public EventEnvelope getEnvelope() {
+        return envelope;
+    }
+
+    /**
+     * Acknowledge that the transport has durably accepted the event
+     */
+    public void complete() {
+        ack.complete(null);
+    }
+
+    /**
+     * Report that the transport could not deliver the event
+     */
+    public void fail(Throwable cause) {
+        ack.completeExceptionally(cause);
+    }
+
+    public boolean isDone() {
+        return ack.isDone();
+    }
+
+    CompletableFuture<Void> ack() {
+        return ack;
+    }
+}
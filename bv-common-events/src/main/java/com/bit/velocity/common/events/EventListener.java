@@ -2,10 +2,18 @@ package com.bit.velocity.common.events;
 
 import java.lang.annotation.*;
 
+/**
+ * Marks a method receiving {@code EventEnvelope}s from
+ * {@link com.bit.velocity.common.event.dispatch.EventDispatcher}.
+ * The method must be non-static and take a single {@code EventEnvelope} parameter.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface EventListener {
+
+    /**
+     * Event type to receive, e.g. {@code ecommerce.catalog.product.created.v1}; empty for every event type
+     */
     String value() default "";
 }
-
@@ -0,0 +1,54 @@
+package com.bit.velocity.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended throughput of the id generators against {@link UUID#randomUUID()}, which draws from a
+ * single shared {@code SecureRandom}. Ids are generated in string form, as events, tokens and
+ * sessions carry them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator timeOrdered = new TimeOrderedIdGenerator();
+    private final IdGenerator random = new RandomIdGenerator();
+    private final IdGenerator secureRandom = new SecureRandomIdGenerator();
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return timeOrdered.nextString();
+    }
+
+    @Benchmark
+    public String random() {
+        return random.nextString();
+    }
+
+    @Benchmark
+    public String secureRandom() {
+        return secureRandom.nextString();
+    }
+}
@@ -0,0 +1,59 @@
+package com.bit.velocity.common.id;
+
+import java.util.UUID;
+
+/**
+ * 128-bit identifier held as two longs, laid out like a {@link UUID}.
+ * Comparison is unsigned over the full 128 bits, so time-ordered ids sort by creation time.
+ */
+public record Id(long mostSigBits, long leastSigBits) implements Comparable<Id> {
+
+    /**
+     * Parse the canonical 36-character UUID form
+     */
+    public static Id parse(String value) {
+        UUID uuid = UUID.fromString(value);
+        return new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public static Id of(UUID uuid) {
+        return new Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * UUID version nibble, e.g. 7 for time-ordered ids and 4 for random ids
+     */
+    public int version() {
+        return (int) ((mostSigBits >>> 12) & 0xF);
+    }
+
+    /**
+     * Creation time in epoch milliseconds for version 7 ids
+     *
+     * @throws IllegalStateException for other versions
+     */
+    public long timestampMillis() {
+        if (version() != 7) {
+            throw new IllegalStateException("Not a time-ordered id: version " + version());
+        }
+        return mostSigBits >>> 16;
+    }
+
+    @Override
+    public int compareTo(Id other) {
+        int result = Long.compareUnsigned(mostSigBits, other.mostSigBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSigBits, other.leastSigBits);
+    }
+
+    /**
+     * Canonical 36-character UUID form
+     */
+    @Override
+    public String toString() {
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+}
@@ -0,0 +1,19 @@
+package com.bit.velocity.common.id;
+
+/**
+ * Strategy for generating unique identifiers
+ */
+public interface IdGenerator {
+
+    /**
+     * Generate a new id
+     */
+    Id next();
+
+    /**
+     * Generate a new id in canonical UUID string form
+     */
+    default String nextString() {
+        return next().toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.bit.velocity.common.id;
+
+import java.util.Objects;
+
+/**
+ * Process-wide id generation used for event ids and correlation ids.
+ * Defaults to {@link TimeOrderedIdGenerator}; applications can install another strategy at startup.
+ * Ids that must be unguessable, such as token and session ids, use {@link SecureRandomIdGenerator} instead.
+ */
+public final class Ids {
+
+    private static volatile IdGenerator generator = new TimeOrderedIdGenerator();
+
+    private Ids() {
+    }
+
+    /**
+     * Generate a new id with the current strategy
+     */
+    public static Id next() {
+        return generator.next();
+    }
+
+    /**
+     * Generate a new id in canonical UUID string form with the current strategy
+     */
+    public static String nextString() {
+        return generator.nextString();
+    }
+
+    public static IdGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Replace the id generation strategy for the whole process
+     */
+    public static void setGenerator(IdGenerator idGenerator) {
+        generator = Objects.requireNonNull(idGenerator, "idGenerator");
+    }
+}
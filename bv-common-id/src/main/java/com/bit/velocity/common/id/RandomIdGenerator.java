@@ -0,0 +1,19 @@
+package com.bit.velocity.common.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID version 4 generator backed by {@link ThreadLocalRandom}.
+ * Same format as {@link java.util.UUID#randomUUID()} without contention on a shared SecureRandom;
+ * not suitable where the id must be unpredictable.
+ */
+public final class RandomIdGenerator implements IdGenerator {
+
+    @Override
+    public Id next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new Id(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bit.velocity.common.id;
+
+import java.util.UUID;
+
+/**
+ * UUID version 4 generator using {@link UUID#randomUUID()}, for ids that must be unpredictable
+ */
+public final class SecureRandomIdGenerator implements IdGenerator {
+
+    @Override
+    public Id next() {
+        return Id.of(UUID.randomUUID());
+    }
+
+    @Override
+    public String nextString() {
+        return UUID.randomUUID().toString();
+    }
+}
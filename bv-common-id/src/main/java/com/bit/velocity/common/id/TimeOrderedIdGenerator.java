@@ -0,0 +1,51 @@
+package com.bit.velocity.common.id;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUID version 7 generator (RFC 9562): 48-bit Unix epoch milliseconds, then random bits.
+ *
+ * Ids sort by creation time, so they append at the right edge of B-tree indexes instead of
+ * scattering writes like random UUIDs. Entropy comes from {@link ThreadLocalRandom}, so
+ * generation never contends on a shared lock. Within one thread, ids created in the same
+ * millisecond are strictly increasing: the 12-bit {@code rand_a} field acts as a counter
+ * seeded at a random value each millisecond.
+ *
+ * Ids are unique and hard to guess by accident but are not cryptographically unpredictable;
+ * use {@link SecureRandomIdGenerator} where an id doubles as a secret.
+ */
+public final class TimeOrderedIdGenerator implements IdGenerator {
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final ThreadLocal<long[]> LAST = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public Id next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+
+        // [0] last millisecond used by this thread, [1] counter within it
+        long[] last = LAST.get();
+        long counter;
+        if (now > last[0]) {
+            last[0] = now;
+            counter = random.nextInt(0x800);
+        } else {
+            // Same millisecond or the clock stepped back: keep the previous timestamp so ids stay ordered
+            counter = last[1] + 1;
+            if (counter > 0xFFF) {
+                last[0]++;
+                counter = 0;
+            }
+            now = last[0];
+        }
+        last[1] = counter;
+
+        long mostSigBits = (now << 16) | VERSION_7 | counter;
+        long leastSigBits = VARIANT_RFC | (random.nextLong() & RAND_B_MASK);
+        return new Id(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bit.velocity.common.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * An event waiting in the outbox, stored as its JSON envelope.
+ * Rows are only ever inserted by {@link OutboxWriter}; the relay leases them and deletes them once published.
+ * See {@code db/outbox/schema.sql} for the table definition.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "bv_outbox_event", indexes = {
+        @Index(name = "ix_bv_outbox_event_available", columnList = "available_at, id")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false, updatable = false, length = 128)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, updatable = false)
+    private String topic;
+
+    /**
+     * Envelope serialized as JSON
+     */
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * When the event may next be claimed: its creation, the end of a lease or the next retry
+     */
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    /**
+     * Failed publish attempts
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * Relay node holding the current lease
+     */
+    @Column(name = "lease_owner", length = 128)
+    private String leaseOwner;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,90 @@
+package com.bit.velocity.common.outbox;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Outbox table access; every method runs in the caller's transaction
+ */
+@Component
+public class OutboxEventStore {
+
+    /**
+     * JPA lock timeout hint; Hibernate renders the value -2 as {@code SKIP LOCKED} on databases that support it
+     */
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    private static final int SKIP_LOCKED = -2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void append(OutboxEvent event) {
+        entityManager.persist(event);
+    }
+
+    /**
+     * Lease the oldest available events to {@code owner} until {@code leaseUntil}.
+     * Rows locked by another node's claim are skipped rather than waited for, so nodes claim disjoint batches.
+     */
+    public List<OutboxEvent> claim(String owner, int batchSize, int maxAttempts, Instant now, Instant leaseUntil) {
+        List<OutboxEvent> events = entityManager.createQuery(
+                        "select e from OutboxEvent e where e.availableAt <= :now and e.attempts < :maxAttempts order by e.id",
+                        OutboxEvent.class)
+                .setParameter("now", now)
+                .setParameter("maxAttempts", maxAttempts)
+                .setMaxResults(batchSize)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, SKIP_LOCKED)
+                .getResultList();
+        for (OutboxEvent event : events) {
+            event.setLeaseOwner(owner);
+            event.setAvailableAt(leaseUntil);
+        }
+        return events;
+    }
+
+    /**
+     * Remove published events still leased to {@code owner}; events whose lease passed to another node
+     * are left to that node
+     *
+     * @return the number of events removed
+     */
+    public int delete(String owner, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return entityManager.createQuery("delete from OutboxEvent e where e.id in :ids and e.leaseOwner = :owner")
+                .setParameter("ids", ids)
+                .setParameter("owner", owner)
+                .executeUpdate();
+    }
+
+    /**
+     * Record a failed attempt and release the lease until {@code retryAt}, unless the event is no longer
+     * leased to {@code owner}
+     *
+     * @return whether the event was rescheduled
+     */
+    public boolean reschedule(String owner, Long id, Instant retryAt, String error) {
+        return entityManager.createQuery("update OutboxEvent e set e.attempts = e.attempts + 1, e.availableAt = :retryAt, "
+                        + "e.leaseOwner = null, e.lastError = :error where e.id = :id and e.leaseOwner = :owner")
+                .setParameter("retryAt", retryAt)
+                .setParameter("error", error)
+                .setParameter("id", id)
+                .setParameter("owner", owner)
+                .executeUpdate() > 0;
+    }
+
+    /**
+     * Number of events not yet published, including ones past their last attempt
+     */
+    public long count() {
+        return entityManager.createQuery("select count(e) from OutboxEvent e", Long.class).getSingleResult();
+    }
+}
@@ -0,0 +1,51 @@
+package com.bit.velocity.common.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "bitvelocity.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this node relays outbox events to the broker; writing to the outbox is always possible
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of events claimed per relay round
+     */
+    private int batchSize = 100;
+
+    /**
+     * Delay between relay rounds once the outbox is drained
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * How long claimed events are reserved for this node; a crashed node's events are retried after it
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * First retry delay after a failed publish, doubled per attempt
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Upper bound of the retry delay
+     */
+    private Duration maxRetryBackoff = Duration.ofMinutes(5);
+
+    /**
+     * Failed attempts after which an event is no longer relayed and stays in the table for inspection
+     */
+    private int maxAttempts = 10;
+}
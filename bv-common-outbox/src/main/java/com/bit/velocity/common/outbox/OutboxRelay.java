@@ -0,0 +1,209 @@
+package com.bit.velocity.common.outbox;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.event.EventPublisher;
+import com.bit.velocity.common.event.publish.AsyncEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes outbox events through the application's {@link EventPublisher}.
+ *
+ * Each round claims a batch in a short transaction, leasing the rows to this node with
+ * {@code SKIP LOCKED}-style locking so several nodes drain the outbox in parallel without
+ * publishing the same rows. The batch is published outside any transaction, then published rows are
+ * deleted and failed ones rescheduled with exponential backoff. If a node dies mid-batch, its
+ * lease expires and another node publishes the events again, so delivery is at least once.
+ *
+ * Events are relayed in outbox order within a batch; across nodes and retries no order is guaranteed.
+ * Configured under {@code bitvelocity.outbox.*}.
+ */
+@Component
+@Slf4j
+public class OutboxRelay implements InitializingBean, DisposableBean {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxProperties properties;
+    private final OutboxEventStore store;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<EventPublisher> publisherProvider;
+    private final String owner;
+
+    private final LongAdder relayed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile EventPublisher publisher;
+    private ScheduledExecutorService scheduler;
+
+    public OutboxRelay(OutboxProperties properties, OutboxEventStore store,
+                       PlatformTransactionManager transactionManager, ObjectProvider<EventPublisher> publisherProvider) {
+        this.properties = properties;
+        this.store = store;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publisherProvider = publisherProvider;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        publisher = publisherProvider.getIfUnique();
+        if (publisher == null) {
+            log.warn("Outbox relay disabled: no unique EventPublisher bean");
+            return;
+        }
+
+        long intervalMillis = properties.getPollInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bv-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::drain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Outbox relay {} started, polling every {} ms", owner, intervalMillis);
+    }
+
+    /**
+     * Run one claim, publish and complete round
+     *
+     * @return the number of events claimed
+     */
+    public int relayBatch() {
+        EventPublisher target = publisher != null ? publisher : publisherProvider.getIfUnique();
+        if (target == null) {
+            throw new IllegalStateException("No unique EventPublisher bean to relay outbox events to");
+        }
+
+        Instant now = Instant.now();
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> store.claim(owner,
+                properties.getBatchSize(), properties.getMaxAttempts(), now, now.plus(properties.getLeaseDuration())));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> published = new ArrayList<>(batch.size());
+        Map<OutboxEvent, Throwable> failures = new LinkedHashMap<>();
+        publish(target, batch, published, failures);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int deleted = store.delete(owner, published);
+            if (deleted < published.size()) {
+                log.warn("Outbox relay {} lost the lease of {} published events; they will be published again",
+                        owner, published.size() - deleted);
+            }
+            Instant failedAt = Instant.now();
+            failures.forEach((event, error) -> store.reschedule(owner, event.getId(),
+                    failedAt.plus(retryDelay(event.getAttempts())), errorMessage(error)));
+        });
+        relayed.add(published.size());
+        failed.add(failures.size());
+        return batch.size();
+    }
+
+    /**
+     * Number of events published by this node
+     */
+    public long getRelayedCount() {
+        return relayed.sum();
+    }
+
+    /**
+     * Number of failed publish attempts on this node
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(properties.getLeaseDuration().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Relay full batches back to back until the outbox is drained
+     */
+    private void drain() {
+        try {
+            while (relayBatch() >= properties.getBatchSize() && !Thread.currentThread().isInterrupted()) {
+                // keep draining
+            }
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay round failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Publish in outbox order; an {@link AsyncEventPublisher} gets the whole batch before any acknowledgement is awaited
+     */
+    private void publish(EventPublisher target, List<OutboxEvent> batch,
+                         List<Long> published, Map<OutboxEvent, Throwable> failures) {
+        List<CompletableFuture<Void>> acks = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CompletableFuture<Void> ack;
+            try {
+                EventEnvelope envelope = OutboxWriter.OBJECT_MAPPER.readValue(event.getPayload(), EventEnvelope.class);
+                if (target instanceof AsyncEventPublisher async) {
+                    ack = async.publishAsync(event.getTopic(), envelope);
+                } else {
+                    target.publish(event.getTopic(), envelope);
+                    ack = CompletableFuture.completedFuture(null);
+                }
+            } catch (Exception e) {
+                ack = CompletableFuture.failedFuture(e);
+            }
+            acks.add(ack);
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            try {
+                acks.get(i).join();
+                published.add(event.getId());
+            } catch (CompletionException e) {
+                failures.put(event, e.getCause() != null ? e.getCause() : e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Outbox relay failed to publish {} of {} events", failures.size(), batch.size());
+        }
+    }
+
+    private Duration retryDelay(int previousAttempts) {
+        Duration delay = properties.getRetryBackoff().multipliedBy(1L << Math.min(previousAttempts, 20));
+        return delay.compareTo(properties.getMaxRetryBackoff()) > 0 ? properties.getMaxRetryBackoff() : delay;
+    }
+
+    private static String errorMessage(Throwable error) {
+        String message = error.getClass().getSimpleName() + ": " + error.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,58 @@
+package com.bit.velocity.common.outbox;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Writes events to the outbox in the caller's transaction, so they are stored exactly when the entity
+ * changes they describe are committed. {@link OutboxRelay} publishes them afterwards.
+ *
+ * Calling outside a transaction fails: an event written on its own would give none of the outbox guarantees.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final OutboxEventStore store;
+
+    /**
+     * Write an event for the topic named after its event type
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(EventEnvelope eventEnvelope) {
+        write(eventEnvelope.getEventType(), eventEnvelope);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void write(String topic, EventEnvelope eventEnvelope) {
+        if (topic == null || eventEnvelope.getEventId() == null || eventEnvelope.getEventType() == null) {
+            throw new IllegalArgumentException("Outbox events need a topic, an event id and an event type");
+        }
+        String payload;
+        try {
+            payload = OBJECT_MAPPER.writeValueAsString(eventEnvelope);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize event " + eventEnvelope.getEventId(), e);
+        }
+
+        Instant now = Instant.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setEventId(eventEnvelope.getEventId());
+        event.setEventType(eventEnvelope.getEventType());
+        event.setTopic(topic);
+        event.setPayload(payload);
+        event.setCreatedAt(now);
+        event.setAvailableAt(now);
+        store.append(event);
+    }
+}
@@ -0,0 +1,19 @@
+-- Transactional outbox table used by bv-common-outbox.
+-- Written by OutboxWriter in the application's transactions; drained by OutboxRelay.
+-- Runs unchanged on PostgreSQL and H2; MySQL needs BIGINT AUTO_INCREMENT for the id.
+
+CREATE TABLE IF NOT EXISTS bv_outbox_event (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id     VARCHAR(128)             NOT NULL,
+    event_type   VARCHAR(255)             NOT NULL,
+    topic        VARCHAR(255)             NOT NULL,
+    payload      TEXT                     NOT NULL,
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    available_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    attempts     INTEGER                  NOT NULL DEFAULT 0,
+    lease_owner  VARCHAR(128),
+    last_error   VARCHAR(1000)
+);
+
+-- Claim query: available events in outbox order
+CREATE INDEX IF NOT EXISTS ix_bv_outbox_event_available ON bv_outbox_event (available_at, id);
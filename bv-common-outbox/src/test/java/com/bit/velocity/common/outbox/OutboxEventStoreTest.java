@@ -0,0 +1,235 @@
+package com.bit.velocity.common.outbox;
+
+import com.bit.velocity.common.event.EventEnvelope;
+import com.bit.velocity.common.event.EventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the outbox against an embedded H2 database created from {@code db/outbox/schema.sql}
+ */
+@SpringBootTest(classes = OutboxEventStoreTest.TestApplication.class, properties = {
+        "bitvelocity.outbox.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/outbox/schema.sql"
+})
+class OutboxEventStoreTest {
+
+    private static final String TOPIC = "ecommerce.orders";
+
+    @Autowired
+    private OutboxWriter writer;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxEventStore store;
+
+    @Autowired
+    private RecordingPublisher publisher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jdbcTemplate.update("delete from bv_outbox_event");
+        publisher.published.clear();
+        publisher.failing.clear();
+    }
+
+    @Test
+    void writeRequiresTransaction() {
+        assertThatThrownBy(() -> writer.write(TOPIC, event()))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    void relayPublishesInOutboxOrderAndDeletes() {
+        EventEnvelope first = event();
+        EventEnvelope second = event();
+        transactionTemplate.executeWithoutResult(status -> {
+            writer.write(TOPIC, first);
+            writer.write(TOPIC, second);
+        });
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+
+        assertThat(publisher.published).extracting(EventEnvelope::getEventId)
+                .containsExactly(first.getEventId(), second.getEventId());
+        assertThat(publisher.published.get(0).getData()).isEqualTo(Map.of("orderId", "o-1"));
+        assertThat(count()).isZero();
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void failedPublishIsRescheduledWithoutLease() {
+        EventEnvelope failing = event();
+        publisher.failing.add(failing.getEventId());
+        transactionTemplate.executeWithoutResult(status -> writer.write(TOPIC, failing));
+
+        Instant before = Instant.now();
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "select attempts, lease_owner, last_error, available_at from bv_outbox_event");
+        assertThat(((Number) row.get("attempts")).intValue()).isEqualTo(1);
+        assertThat(row.get("lease_owner")).isNull();
+        assertThat((String) row.get("last_error")).contains("broker unavailable");
+        assertThat(availableAt(row)).isAfter(before);
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void deleteAndRescheduleOnlyApplyToTheLeaseOwner() {
+        transactionTemplate.executeWithoutResult(status -> writer.write(TOPIC, event()));
+        Instant now = Instant.now();
+
+        // node-a's lease has already expired, so node-b takes the event over
+        List<OutboxEvent> claimedByA = claim("node-a", 10, now, now.minusSeconds(1));
+        List<OutboxEvent> claimedByB = claim("node-b", 10, now, now.plusSeconds(30));
+        assertThat(claimedByA).hasSize(1);
+        assertThat(claimedByB).extracting(OutboxEvent::getId).containsExactly(claimedByA.get(0).getId());
+        List<Long> ids = List.of(claimedByA.get(0).getId());
+
+        assertThat(transactionTemplate.execute(status -> store.delete("node-a", ids))).isZero();
+        assertThat(transactionTemplate.execute(status -> store.reschedule("node-a", ids.get(0), now, "late")))
+                .isFalse();
+        assertThat(count()).isEqualTo(1);
+
+        assertThat(transactionTemplate.execute(status -> store.delete("node-b", ids))).isEqualTo(1);
+        assertThat(count()).isZero();
+    }
+
+    @Test
+    void concurrentClaimsSkipLockedRows() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < 10; i++) {
+                writer.write(TOPIC, event());
+            }
+        });
+        Instant now = Instant.now();
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // node-a holds its row locks open while node-b claims
+        CompletableFuture<List<Long>> nodeA = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            List<Long> ids = store.claim("node-a", 5, 10, now, now.plusSeconds(30)).stream()
+                    .map(OutboxEvent::getId)
+                    .toList();
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertThat(claimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        List<Long> nodeB;
+        try {
+            nodeB = claim("node-b", 10, now, now.plusSeconds(30)).stream().map(OutboxEvent::getId).toList();
+        } finally {
+            release.countDown();
+        }
+        List<Long> nodeAIds = nodeA.get(10, TimeUnit.SECONDS);
+
+        assertThat(nodeAIds).hasSize(5);
+        assertThat(nodeB).hasSize(5).doesNotContainAnyElementsOf(nodeAIds);
+        Set<Long> all = new HashSet<>(nodeAIds);
+        all.addAll(nodeB);
+        assertThat(all).hasSize(10);
+    }
+
+    private List<OutboxEvent> claim(String owner, int batchSize, Instant now, Instant leaseUntil) {
+        return transactionTemplate.execute(status -> store.claim(owner, batchSize, 10, now, leaseUntil));
+    }
+
+    private long count() {
+        return transactionTemplate.execute(status -> store.count());
+    }
+
+    private static EventEnvelope event() {
+        return EventEnvelope.create("ecommerce.orders.order.created.v1", "order-service", Map.of("orderId", "o-1"));
+    }
+
+    private static Instant availableAt(Map<String, Object> row) {
+        Object value = row.get("available_at");
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        return ((OffsetDateTime) value).toInstant();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({OutboxProperties.class, OutboxEventStore.class, OutboxWriter.class, OutboxRelay.class})
+    static class TestApplication {
+
+        @Bean
+        RecordingPublisher recordingPublisher() {
+            return new RecordingPublisher();
+        }
+    }
+
+    /**
+     * Records published events and fails for the event ids in {@link #failing}
+     */
+    static class RecordingPublisher implements EventPublisher {
+
+        final List<EventEnvelope> published = new CopyOnWriteArrayList<>();
+        final Set<String> failing = new HashSet<>();
+
+        @Override
+        public void publish(EventEnvelope eventEnvelope) {
+            publish(eventEnvelope.getEventType(), eventEnvelope);
+        }
+
+        @Override
+        public void publish(String topic, EventEnvelope eventEnvelope) {
+            if (failing.contains(eventEnvelope.getEventId())) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            published.add(eventEnvelope);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.bit.velocity.common.security.concurrent;
+
+import com.bit.velocity.common.security.SecurityContextHolder;
+import com.bit.velocity.common.security.UserContext;
+import com.bitvelocity.common.http.CorrelationIdFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.MDC;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-task overhead of running work with a propagated context.
+ *
+ * {@code attachAndRestore} is the former worker path, which captured a snapshot of the worker's
+ * own context for every task; {@code wrapped} is the current one. {@code captureWrapAndRun} adds the
+ * submit side, as done by {@link ContextPropagatingExecutor}. Run with {@code -prof gc} to compare
+ * allocations per task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextSnapshotBenchmark {
+
+    private long counter;
+    private Runnable task;
+    private ContextSnapshot snapshot;
+    private Runnable wrapped;
+
+    @Setup
+    public void setUp() {
+        UserContext userContext = new UserContext();
+        userContext.setUserId("0190f5a4-7c1e-7a3b-9d2f-5e8c1b4a6f70");
+        userContext.setUsername("jane.doe");
+        userContext.setRoles(Set.of("ROLE_USER"));
+        SecurityContextHolder.setUserContext(userContext);
+        MDC.put(CorrelationIdFilter.CORRELATION_ID_MDC_KEY, "7f3c2a10-5b9e-4d61-8a2f-0c4e6b1d9a37");
+
+        task = () -> counter++;
+        snapshot = ContextSnapshot.capture();
+        wrapped = snapshot.wrap(task);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clear();
+        MDC.remove(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+    }
+
+    @Benchmark
+    public long plain() {
+        task.run();
+        return counter;
+    }
+
+    @Benchmark
+    public long attachAndRestore() {
+        ContextSnapshot previous = snapshot.attach();
+        try {
+            task.run();
+        } finally {
+            previous.attach();
+        }
+        return counter;
+    }
+
+    @Benchmark
+    public long wrapped() {
+        wrapped.run();
+        return counter;
+    }
+
+    @Benchmark
+    public long captureWrapAndRun() {
+        ContextSnapshot.capture().wrap(task).run();
+        return counter;
+    }
+}
@@ -0,0 +1,64 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.bit.velocity.common.security.UserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issue and verify cost of access tokens under the standard and compact claim profiles, for users
+ * whose roles and permissions are all in the dictionaries. The token length of each combination is
+ * printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClaimProfileBenchmark {
+
+    @Param({"STANDARD", "COMPACT"})
+    public JwtProperties.ClaimProfile profile;
+
+    @Param({"5", "50"})
+    public int permissions;
+
+    private JwtTokenService tokenService;
+    private UserContext user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        JwtProperties.ClaimEncoding claims = jwtProperties.getClaims();
+        claims.setProfile(profile);
+        claims.setRoles(new ArrayList<>(JwtBenchmarkSupport.names("ROLE_", 3)));
+        claims.setPermissions(new ArrayList<>(JwtBenchmarkSupport.names("perm:", permissions)));
+        tokenService = JwtBenchmarkSupport.tokenService(jwtProperties);
+        user = JwtBenchmarkSupport.user(3, permissions);
+        token = tokenService.generateAccessToken(user);
+        System.out.printf("%n%s, %d permissions: %d byte token%n", profile, permissions, token.length());
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public UserContext verify() {
+        return tokenService.verify(token).getUserContext();
+    }
+}
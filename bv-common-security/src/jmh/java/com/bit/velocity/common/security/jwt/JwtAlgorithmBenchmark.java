@@ -0,0 +1,114 @@
+package com.bit.velocity.common.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verify and sign throughput per signature algorithm. HS256 uses the shared secret; RS256 and ES256
+ * resolve their key by {@code kid} from a JWKS document generated for the run. The verification
+ * cache is off, so every verification checks the signature.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAlgorithmBenchmark {
+
+    private static final String KEY_ID = "bench-key";
+
+    @Param({"HS256", "RS256", "ES256"})
+    public SignatureAlgorithm algorithm;
+
+    private JwtTokenService tokenService;
+    private String token;
+    private Path jwksFile;
+
+    @Setup
+    public void setUp() throws IOException, GeneralSecurityException {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAlgorithm(algorithm);
+        if (!algorithm.isHmac()) {
+            jwksFile = Files.createTempFile("bv-jwks", ".json");
+            Files.writeString(jwksFile, "{\"keys\":[" + jwk(algorithm) + "]}");
+            jwtProperties.setJwksLocation(jwksFile.toUri().toString());
+            jwtProperties.setSigningKeyId(KEY_ID);
+        }
+        tokenService = JwtBenchmarkSupport.tokenService(jwtProperties);
+        token = tokenService.generateAccessToken(JwtBenchmarkSupport.user(3, 20));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (jwksFile != null) {
+            Files.deleteIfExists(jwksFile);
+        }
+    }
+
+    @Benchmark
+    public JwtVerificationResult verify() {
+        return tokenService.verify(token);
+    }
+
+    @Benchmark
+    public String sign() {
+        return tokenService.generateAccessToken(JwtBenchmarkSupport.user(3, 20));
+    }
+
+    private static String jwk(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        if (algorithm.isRsa()) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+            RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) keyPair.getPrivate();
+            return "{\"kty\":\"RSA\",\"kid\":\"" + KEY_ID + "\",\"alg\":\"" + algorithm.getValue() + "\""
+                    + field("n", publicKey.getModulus()) + field("e", publicKey.getPublicExponent())
+                    + field("d", privateKey.getPrivateExponent()) + field("p", privateKey.getPrimeP())
+                    + field("q", privateKey.getPrimeQ()) + field("dp", privateKey.getPrimeExponentP())
+                    + field("dq", privateKey.getPrimeExponentQ()) + field("qi", privateKey.getCrtCoefficient()) + "}";
+        }
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        return "{\"kty\":\"EC\",\"kid\":\"" + KEY_ID + "\",\"crv\":\"P-256\""
+                + field("x", publicKey.getW().getAffineX()) + field("y", publicKey.getW().getAffineY())
+                + field("d", ((ECPrivateKey) keyPair.getPrivate()).getS()) + "}";
+    }
+
+    private static String field(String name, BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        int offset = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        byte[] unsigned = new byte[bytes.length - offset];
+        System.arraycopy(bytes, offset, unsigned, 0, unsigned.length);
+        return ",\"" + name + "\":\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(unsigned) + "\"";
+    }
+}
@@ -0,0 +1,51 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.bit.velocity.common.security.UserContext;
+import com.bit.velocity.common.security.revocation.InMemoryTokenRevocationStore;
+import com.bit.velocity.common.security.revocation.TokenRevocationRegistry;
+import com.bit.velocity.common.security.session.InMemorySessionStore;
+import com.bit.velocity.common.security.session.SessionProperties;
+import com.bit.velocity.common.security.session.SessionRegistry;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Wires a {@link JwtTokenService} without Spring for the JWT benchmarks
+ */
+final class JwtBenchmarkSupport {
+
+    private JwtBenchmarkSupport() {
+    }
+
+    static JwtTokenService tokenService(JwtProperties jwtProperties) {
+        TokenRevocationRegistry revocationRegistry =
+                new TokenRevocationRegistry(new InMemoryTokenRevocationStore(), jwtProperties);
+        SessionRegistry sessionRegistry =
+                new SessionRegistry(new SessionProperties(), new InMemorySessionStore(), revocationRegistry);
+        return new JwtTokenService(jwtProperties, new JwtVerificationCache(jwtProperties), revocationRegistry,
+                sessionRegistry);
+    }
+
+    /**
+     * A user with {@code roles} roles and {@code permissions} permissions named ROLE_n and perm:n
+     */
+    static UserContext user(int roles, int permissions) {
+        UserContext userContext = new UserContext();
+        userContext.setUserId("0190f5a4-7c1e-7a3b-9d2f-5e8c1b4a6f70");
+        userContext.setUsername("jane.doe");
+        userContext.setEmail("jane.doe@example.com");
+        userContext.setTenantId("tenant-42");
+        userContext.setRoles(names("ROLE_", roles));
+        userContext.setPermissions(names("perm:", permissions));
+        return userContext;
+    }
+
+    static Set<String> names(String prefix, int count) {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + i);
+        }
+        return names;
+    }
+}
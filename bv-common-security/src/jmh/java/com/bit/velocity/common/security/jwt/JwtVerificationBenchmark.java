@@ -0,0 +1,61 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.bit.velocity.common.security.UserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@code JwtAuthenticationFilter}.
+ *
+ * {@code twoValidations} is the filter's former path, an expiry check followed by a separate
+ * user context extraction, each verifying the signature and parsing the claims.
+ * {@code verifyOnce} is the current path. With the verification cache enabled, repeated tokens skip
+ * the signature check altogether.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtTokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getCache().setEnabled(cacheEnabled);
+        tokenService = JwtBenchmarkSupport.tokenService(jwtProperties);
+        token = tokenService.generateAccessToken(JwtBenchmarkSupport.user(3, 20));
+    }
+
+    @Benchmark
+    public void twoValidations(Blackhole blackhole) {
+        if (!tokenService.isTokenExpired(token)) {
+            blackhole.consume(tokenService.extractUserContext(token));
+        }
+    }
+
+    @Benchmark
+    public UserContext verifyOnce() {
+        JwtVerificationResult result = tokenService.verify(token);
+        return result.isExpired() ? null : result.getUserContext();
+    }
+}
@@ -0,0 +1,118 @@
+package com.bit.velocity.common.security.password;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Password complexity validation, {@link PasswordComplexityValidator} against the sequential checks
+ * it replaced: one {@code .*X.*} regular expression per character class, a lowercased copy for the
+ * common password list and a substring search per three-character sequence.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordComplexityBenchmark {
+
+    private static final int MIN_PASSWORD_LENGTH = 8;
+    private static final int MAX_PASSWORD_LENGTH = 128;
+
+    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
+    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
+    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
+    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?].*");
+
+    private static final String[] COMMON_PASSWORDS = {
+            "password", "123456", "password123", "admin", "qwerty",
+            "letmein", "welcome", "monkey", "dragon", "password1",
+            "123456789", "football", "iloveyou", "admin123", "welcome123"
+    };
+
+    /**
+     * A valid password, one failing every rule, and a long valid passphrase
+     */
+    @Param({"Tr0ub4dor&3x", "password", "correct-Horse-battery-Staple-42-correct-Horse-battery-Staple"})
+    public String password;
+
+    private PasswordComplexityValidator validator;
+
+    @Setup
+    public void setUp() {
+        PasswordProperties passwordProperties = new PasswordProperties();
+        validator = new PasswordComplexityValidator(passwordProperties, new BreachedPasswordChecker(passwordProperties));
+    }
+
+    @Benchmark
+    public PasswordValidationResult sequentialChecks() {
+        return validateSequentially(password);
+    }
+
+    @Benchmark
+    public PasswordValidationResult singlePass() {
+        return validator.validate(password);
+    }
+
+    private static PasswordValidationResult validateSequentially(String password) {
+        PasswordValidationResult result = new PasswordValidationResult();
+        if (password.length() < MIN_PASSWORD_LENGTH) {
+            result.addError("Password must be at least " + MIN_PASSWORD_LENGTH + " characters long");
+        }
+        if (password.length() > MAX_PASSWORD_LENGTH) {
+            result.addError("Password must not exceed " + MAX_PASSWORD_LENGTH + " characters");
+        }
+        if (!UPPERCASE_PATTERN.matcher(password).matches()) {
+            result.addError("Password must contain at least one uppercase letter");
+        }
+        if (!LOWERCASE_PATTERN.matcher(password).matches()) {
+            result.addError("Password must contain at least one lowercase letter");
+        }
+        if (!DIGIT_PATTERN.matcher(password).matches()) {
+            result.addError("Password must contain at least one digit");
+        }
+        if (!SPECIAL_CHAR_PATTERN.matcher(password).matches()) {
+            result.addError("Password must contain at least one special character");
+        }
+        if (isCommonPassword(password)) {
+            result.addError("Password is too common, please choose a different one");
+        }
+        if (containsSequentialChars(password)) {
+            result.addError("Password should not contain sequential characters (e.g., abc, 123)");
+        }
+        return result;
+    }
+
+    private static boolean isCommonPassword(String password) {
+        String lowerPassword = password.toLowerCase();
+        for (String common : COMMON_PASSWORDS) {
+            if (lowerPassword.equals(common)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsSequentialChars(String password) {
+        String sequential = "abcdefghijklmnopqrstuvwxyz0123456789";
+        String lowerPassword = password.toLowerCase();
+        for (int i = 0; i <= sequential.length() - 3; i++) {
+            if (lowerPassword.contains(sequential.substring(i, i + 3))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.bit.velocity.common.security.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended throughput of {@link TokenBucketRateLimiter} against a conventional token bucket that
+ * refills under a per-key lock. {@code hot} sends every thread to one key, as a login flood against a
+ * single username does; {@code spread} draws from {@code keys} distinct keys, as ordinary traffic does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int CAPACITY = 5;
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    @Param({"10000"})
+    public int keys;
+
+    private TokenBucketRateLimiter limiter;
+    private LockingRateLimiter lockingLimiter;
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(CAPACITY, WINDOW, keys * 2);
+        lockingLimiter = new LockingRateLimiter(CAPACITY, WINDOW);
+        names = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            names[i] = "10.0." + (i >>> 8) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long hot() {
+        return limiter.tryAcquire(names[0]);
+    }
+
+    @Benchmark
+    public long hotLocking() {
+        return lockingLimiter.tryAcquire(names[0]);
+    }
+
+    @Benchmark
+    public long spread() {
+        return limiter.tryAcquire(names[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    @Benchmark
+    public long spreadLocking() {
+        return lockingLimiter.tryAcquire(names[ThreadLocalRandom.current().nextInt(keys)]);
+    }
+
+    /**
+     * Token bucket holding a token count and last refill time per key, refilled under the bucket's monitor
+     */
+    static final class LockingRateLimiter {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+        LockingRateLimiter(int capacity, Duration window) {
+            this.capacity = capacity;
+            this.tokensPerNano = (double) capacity / window.toNanos();
+        }
+
+        long tryAcquire(String key) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, System.nanoTime()));
+            synchronized (bucket) {
+                long now = System.nanoTime();
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = now;
+                if (bucket.tokens >= 1) {
+                    bucket.tokens -= 1;
+                    return 0;
+                }
+                return (long) ((1 - bucket.tokens) / tokensPerNano);
+            }
+        }
+
+        private static final class Bucket {
+            double tokens;
+            long refilledAt;
+
+            Bucket(double tokens, long refilledAt) {
+                this.tokens = tokens;
+                this.refilledAt = refilledAt;
+            }
+        }
+    }
+}
@@ -1,8 +1,18 @@
 package com.bit.velocity.common.security;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 /**
  * Thread-local storage for user context throughout request processing.
  * Enables audit tracking and security checks across all layers.
+ *
+ * Besides the classic set/clear style, {@link #runWith(UserContext, Runnable)} binds a context
+ * for the duration of a task only, mirroring {@code ScopedValue.where(...).run(...)}. The scoped
+ * style always restores the previous context, so it is safe on pooled and virtual threads.
+ * {@code ScopedValue} itself is still a preview API on Java 21, so the binding is backed by a ThreadLocal.
  */
 public class SecurityContextHolder {
     
@@ -44,4 +54,86 @@ public class SecurityContextHolder {
         UserContext context = getUserContext();
         return context != null ? context.getUsername() : "system";
     }
+    
+    /**
+     * Run a task with the given user context bound, restoring the previous context afterwards
+     */
+    public static void runWith(UserContext userContext, Runnable task) {
+        UserContext previous = bind(userContext);
+        try {
+            task.run();
+        } finally {
+            bind(previous);
+        }
+    }
+    
+    /**
+     * Call a task with the given user context bound, restoring the previous context afterwards
+     */
+    public static <T> T callWith(UserContext userContext, Callable<T> task) throws Exception {
+        UserContext previous = bind(userContext);
+        try {
+            return task.call();
+        } finally {
+            bind(previous);
+        }
+    }
+    
+    /**
+     * Capture the current user context so the task runs with it on another thread
+     */
+    public static Runnable wrap(Runnable task) {
+        UserContext captured = getUserContext();
+        return () -> runWith(captured, task);
+    }
+    
+    /**
+     * Capture the current user context so the task runs with it on another thread
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        UserContext captured = getUserContext();
+        return () -> callWith(captured, task);
+    }
+    
+    /**
+     * Capture the current user context so the supplier runs with it on another thread
+     */
+    public static <T> Supplier<T> wrapSupplier(Supplier<T> supplier) {
+        UserContext captured = getUserContext();
+        return () -> {
+            UserContext previous = bind(captured);
+            try {
+                return supplier.get();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+    
+    /**
+     * {@link CompletableFuture#supplyAsync(Supplier, Executor)} that carries the current user context
+     */
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+        return CompletableFuture.supplyAsync(wrapSupplier(supplier), executor);
+    }
+    
+    /**
+     * {@link CompletableFuture#runAsync(Runnable, Executor)} that carries the current user context
+     */
+    public static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+        return CompletableFuture.runAsync(wrap(task), executor);
+    }
+    
+    /**
+     * Replace the bound context and return the previous one; null removes the binding
+     */
+    private static UserContext bind(UserContext userContext) {
+        UserContext previous = userContextHolder.get();
+        if (userContext != null) {
+            userContextHolder.set(userContext);
+        } else {
+            userContextHolder.remove();
+        }
+        return previous;
+    }
 }
\ No newline at end of file
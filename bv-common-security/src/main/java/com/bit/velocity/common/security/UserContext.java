@@ -1,12 +1,23 @@
 package com.bit.velocity.common.security;
 
+import com.bit.velocity.common.security.authority.AuthoritySet;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.Set;
 
 /**
  * User context for security and audit tracking.
  * Follows security layering defined in ADR-005-security-layering.md
+ * 
+ * Role and permission checks run against bitsets that are computed once per context
+ * and refreshed whenever {@link #setRoles(Set)} or {@link #setPermissions(Set)} replaces a set.
+ * Mutating a set in place does not refresh them. The bitsets are derived state and are not serialized.
  */
 @Data
 public class UserContext {
@@ -18,32 +29,134 @@ public class UserContext {
     private Set<String> permissions;
     private String tenantId;
     
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile AuthoritySet roleAuthorities;
+    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private volatile AuthoritySet permissionAuthorities;
+    
+    /**
+     * Replace the user roles
+     */
+    public void setRoles(Set<String> roles) {
+        this.roles = roles;
+        this.roleAuthorities = null;
+    }
+    
+    /**
+     * Replace the user permissions
+     */
+    public void setPermissions(Set<String> permissions) {
+        this.permissions = permissions;
+        this.permissionAuthorities = null;
+    }
+    
+    /**
+     * Copy of this context that can be changed without affecting it. The role and permission sets
+     * are shared with their bitsets, so they must not be mutated in place.
+     */
+    public UserContext copy() {
+        UserContext copy = new UserContext();
+        copy.userId = userId;
+        copy.username = username;
+        copy.email = email;
+        copy.roles = roles;
+        copy.permissions = permissions;
+        copy.tenantId = tenantId;
+        copy.roleAuthorities = getRoleAuthorities();
+        copy.permissionAuthorities = getPermissionAuthorities();
+        return copy;
+    }
+    
+    /**
+     * Roles as a bitset, computed on first use
+     */
+    @JsonIgnore
+    public AuthoritySet getRoleAuthorities() {
+        AuthoritySet authorities = roleAuthorities;
+        if (authorities == null) {
+            authorities = AuthoritySet.of(roles);
+            roleAuthorities = authorities;
+        }
+        return authorities;
+    }
+    
+    /**
+     * Permissions as a bitset, computed on first use
+     */
+    @JsonIgnore
+    public AuthoritySet getPermissionAuthorities() {
+        AuthoritySet authorities = permissionAuthorities;
+        if (authorities == null) {
+            authorities = AuthoritySet.of(permissions);
+            permissionAuthorities = authorities;
+        }
+        return authorities;
+    }
+    
     /**
      * Check if user has a specific role
      */
     public boolean hasRole(String role) {
-        return roles != null && roles.contains(role);
+        return getRoleAuthorities().contains(role);
     }
     
     /**
      * Check if user has a specific permission
      */
     public boolean hasPermission(String permission) {
-        return permissions != null && permissions.contains(permission);
+        return getPermissionAuthorities().contains(permission);
     }
     
     /**
      * Check if user has any of the specified roles
      */
     public boolean hasAnyRole(String... roles) {
-        if (this.roles == null || roles == null) {
+        if (roles == null) {
             return false;
         }
+        AuthoritySet authorities = getRoleAuthorities();
         for (String role : roles) {
-            if (this.roles.contains(role)) {
+            if (authorities.contains(role)) {
                 return true;
             }
         }
         return false;
     }
+    
+    /**
+     * Check if user has all of the specified roles
+     */
+    public boolean hasAllRoles(String... roles) {
+        if (roles == null) {
+            return false;
+        }
+        AuthoritySet authorities = getRoleAuthorities();
+        for (String role : roles) {
+            if (!authorities.contains(role)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Check if user has any role of a precomputed set
+     */
+    public boolean hasAnyRole(AuthoritySet roles) {
+        return getRoleAuthorities().containsAny(roles);
+    }
+    
+    /**
+     * Check if user has every role of a precomputed set
+     */
+    public boolean hasAllRoles(AuthoritySet roles) {
+        return getRoleAuthorities().containsAll(roles);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.bit.velocity.common.security.annotation;
+
+import com.bit.velocity.common.security.SecurityContextHolder;
+import com.bit.velocity.common.security.UserContext;
+import com.bit.velocity.common.security.authority.AuthoritySet;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Method interceptor that enforces {@link RequireRole} against the current BitVelocity {@link UserContext}.
+ *
+ * The annotation is resolved once per method and target class (method annotation first, then the
+ * class-level fallback) and compiled into a role bitset plus the {@code requireAll} flag. Subsequent
+ * invocations only do two map lookups and a bitset test, with no allocation unless access is denied.
+ */
+@Slf4j
+public class RequireRoleAuthorizationInterceptor implements MethodInterceptor {
+
+    private final ClassValue<Map<Method, RoleRequirement>> requirements = new ClassValue<>() {
+        @Override
+        protected Map<Method, RoleRequirement> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Object target = invocation.getThis();
+        Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : method.getDeclaringClass();
+
+        RoleRequirement requirement = requirementFor(method, targetClass);
+        if (requirement != RoleRequirement.NONE) {
+            if (!requirement.isSatisfiedBy(SecurityContextHolder.getUserContext())) {
+                denied.increment();
+                log.debug("Access denied to {}.{}: requires {}", targetClass.getSimpleName(), method.getName(), requirement);
+                throw new AccessDeniedException("Access denied: requires " + requirement);
+            }
+            allowed.increment();
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * Number of invocations allowed by a role check
+     */
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    /**
+     * Number of invocations rejected by a role check
+     */
+    public long getDeniedCount() {
+        return denied.sum();
+    }
+
+    private RoleRequirement requirementFor(Method method, Class<?> targetClass) {
+        Map<Method, RoleRequirement> byMethod = requirements.get(targetClass);
+        RoleRequirement requirement = byMethod.get(method);
+        if (requirement == null) {
+            requirement = resolve(method, targetClass);
+            byMethod.putIfAbsent(method, requirement);
+        }
+        return requirement;
+    }
+
+    /**
+     * Resolve the effective annotation: the most specific method, the invoked method, then the class
+     */
+    private static RoleRequirement resolve(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequireRole annotation = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequireRole.class);
+        if (annotation == null && specificMethod != method) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequireRole.class);
+        }
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequireRole.class);
+        }
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), RequireRole.class);
+        }
+        return annotation != null ? new RoleRequirement(annotation.value(), annotation.requireAll()) : RoleRequirement.NONE;
+    }
+
+    /**
+     * Compiled form of a {@link RequireRole} annotation
+     */
+    private static final class RoleRequirement {
+
+        static final RoleRequirement NONE = new RoleRequirement(new String[0], false);
+
+        private final AuthoritySet roles;
+        private final boolean requireAll;
+        private final String description;
+
+        RoleRequirement(String[] roles, boolean requireAll) {
+            this.roles = AuthoritySet.of(roles);
+            this.requireAll = requireAll;
+            this.description = (requireAll ? "all of " : "any of ") + Arrays.toString(roles);
+        }
+
+        boolean isSatisfiedBy(UserContext userContext) {
+            if (userContext == null) {
+                return false;
+            }
+            return requireAll ? userContext.hasAllRoles(roles) : userContext.hasAnyRole(roles);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
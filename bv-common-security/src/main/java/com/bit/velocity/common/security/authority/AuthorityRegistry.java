@@ -0,0 +1,61 @@
+package com.bit.velocity.common.security.authority;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process-wide registry that interns role and permission names as small integers.
+ * Ids are dense and never reused, so they can serve as bit positions in an {@link AuthoritySet}.
+ *
+ * Names are registered when a token or annotation introduces them; lookups for unknown
+ * names do not register anything, so queries cannot grow the registry. At most
+ * {@link #MAX_AUTHORITIES} names get an id. Once they are taken the registry stays as it is, so a
+ * name either always has an id or never has one, and sets keep names without an id by name.
+ */
+public final class AuthorityRegistry {
+
+    /**
+     * Upper bound on registered names, which also bounds an {@link AuthoritySet} to 16 words
+     */
+    public static final int MAX_AUTHORITIES = 1024;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private AuthorityRegistry() {
+    }
+
+    /**
+     * Get the id of an authority name, assigning the next free id on first use,
+     * or -1 if the name is new and the registry is full
+     */
+    public static int register(String authority) {
+        Integer id = IDS.get(authority);
+        if (id == null && NEXT_ID.get() < MAX_AUTHORITIES) {
+            id = IDS.computeIfAbsent(authority, name -> {
+                int next = NEXT_ID.getAndUpdate(current -> current < MAX_AUTHORITIES ? current + 1 : current);
+                return next < MAX_AUTHORITIES ? next : null;
+            });
+        }
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Get the id of an already registered authority name, or -1 if it is unknown
+     */
+    public static int idOf(String authority) {
+        if (authority == null) {
+            return -1;
+        }
+        Integer id = IDS.get(authority);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Number of distinct authority names registered so far
+     */
+    public static int size() {
+        return IDS.size();
+    }
+}
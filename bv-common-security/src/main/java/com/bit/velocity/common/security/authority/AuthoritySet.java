@@ -0,0 +1,148 @@
+package com.bit.velocity.common.security.authority;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Immutable bitset of authorities, indexed by {@link AuthorityRegistry} ids.
+ * Membership is a single word test; {@link #containsAll(AuthoritySet)} and
+ * {@link #containsAny(AuthoritySet)} are word-wise AND operations over a handful of longs.
+ *
+ * Names that got no id because the registry is full are kept in a hashed set of names alongside
+ * the bits; they are rare, and sets without them never consult it.
+ */
+public final class AuthoritySet {
+
+    public static final AuthoritySet EMPTY = new AuthoritySet(new long[0], Set.of());
+
+    private final long[] words;
+    private final Set<String> unregistered;
+    private final int hashCode;
+
+    private AuthoritySet(long[] words, Set<String> unregistered) {
+        this.words = words;
+        this.unregistered = unregistered;
+        this.hashCode = 31 * Arrays.hashCode(words) + unregistered.hashCode();
+    }
+
+    /**
+     * Build a set from authority names, registering names not seen before
+     */
+    public static AuthoritySet of(Collection<String> authorities) {
+        if (authorities == null || authorities.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        Set<String> unregistered = null;
+        for (String authority : authorities) {
+            if (authority == null) {
+                continue;
+            }
+            int id = AuthorityRegistry.register(authority);
+            if (id >= 0) {
+                words = set(words, id);
+            } else {
+                if (unregistered == null) {
+                    unregistered = new HashSet<>();
+                }
+                unregistered.add(authority);
+            }
+        }
+        return new AuthoritySet(words, unregistered != null ? Set.copyOf(unregistered) : Set.of());
+    }
+
+    /**
+     * Build a set from authority names, registering names not seen before
+     */
+    public static AuthoritySet of(String... authorities) {
+        return authorities == null ? EMPTY : of(Arrays.asList(authorities));
+    }
+
+    /**
+     * Check membership by name; names never registered are members only if the set was built with them
+     */
+    public boolean contains(String authority) {
+        int id = AuthorityRegistry.idOf(authority);
+        if (id >= 0) {
+            return contains(id);
+        }
+        return authority != null && !unregistered.isEmpty() && unregistered.contains(authority);
+    }
+
+    /**
+     * Check membership by registry id
+     */
+    public boolean contains(int id) {
+        int word = id >>> 6;
+        return word < words.length && (words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Check whether every authority of {@code other} is also in this set
+     */
+    public boolean containsAll(AuthoritySet other) {
+        long[] required = other.words;
+        if (required.length > words.length) {
+            return false;
+        }
+        for (int i = 0; i < required.length; i++) {
+            if ((required[i] & ~words[i]) != 0) {
+                return false;
+            }
+        }
+        return other.unregistered.isEmpty() || unregistered.containsAll(other.unregistered);
+    }
+
+    /**
+     * Check whether at least one authority of {@code other} is in this set
+     */
+    public boolean containsAny(AuthoritySet other) {
+        int length = Math.min(words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        if (unregistered.isEmpty() || other.unregistered.isEmpty()) {
+            return false;
+        }
+        for (String authority : other.unregistered) {
+            if (unregistered.contains(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0 && unregistered.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof AuthoritySet other && hashCode == other.hashCode && Arrays.equals(words, other.words)
+                && unregistered.equals(other.unregistered);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Set a bit, growing the word array only as far as the highest id; trailing words are never zero
+     */
+    private static long[] set(long[] words, int id) {
+        int word = id >>> 6;
+        if (word >= words.length) {
+            words = Arrays.copyOf(words, word + 1);
+        }
+        words[word] |= 1L << id;
+        return words;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bit.velocity.common.security.authority;
+
+import com.bit.velocity.common.security.UserContext;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Shared, immutable Spring Security authority lists, one per distinct role/permission combination.
+ * Users with the same roles and permissions reuse the same list instead of allocating
+ * new {@link SimpleGrantedAuthority} objects on every request.
+ */
+public final class GrantedAuthorityCache {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    /**
+     * Upper bound on cached combinations; beyond it arbitrary entries are evicted to make room
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final Map<Key, List<GrantedAuthority>> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+
+    private GrantedAuthorityCache() {
+    }
+
+    /**
+     * Get the granted authorities of a user: roles as {@code ROLE_<role>} followed by permissions
+     */
+    public static List<GrantedAuthority> authoritiesFor(UserContext userContext) {
+        Key key = new Key(userContext.getRoleAuthorities(), userContext.getPermissionAuthorities());
+        List<GrantedAuthority> authorities = CACHE.get(key);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = build(userContext.getRoles(), userContext.getPermissions());
+        if (CACHE.size() >= MAX_ENTRIES) {
+            evict();
+        }
+        List<GrantedAuthority> existing = CACHE.putIfAbsent(key, authorities);
+        return existing != null ? existing : authorities;
+    }
+
+    /**
+     * Remove arbitrary entries until the cache is back under ~90% of its limit. Only one thread evicts
+     * at a time; others proceed and may briefly overshoot the limit.
+     */
+    private static void evict() {
+        if (!EVICTING.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Iterator<Key> iterator = CACHE.keySet().iterator();
+            while (CACHE.size() > MAX_ENTRIES * 9 / 10 && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            EVICTING.set(false);
+        }
+    }
+
+    private static List<GrantedAuthority> build(Set<String> roles, Set<String> permissions) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (roles != null) {
+            for (String role : roles) {
+                authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + role));
+            }
+        }
+        if (permissions != null) {
+            for (String permission : permissions) {
+                authorities.add(new SimpleGrantedAuthority(permission));
+            }
+        }
+        return List.copyOf(authorities);
+    }
+
+    private record Key(AuthoritySet roles, AuthoritySet permissions) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.bit.velocity.common.security.concurrent;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor decorator that runs every task with the {@link ContextSnapshot} of the submitting thread.
+ */
+public class ContextPropagatingExecutor implements Executor {
+
+    private final Executor delegate;
+
+    public ContextPropagatingExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(ContextSnapshot.capture().wrap(command));
+    }
+}
@@ -0,0 +1,15 @@
+package com.bit.velocity.common.security.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Spring {@link TaskDecorator} that carries the {@link ContextSnapshot} into tasks run by
+ * {@code ThreadPoolTaskExecutor}, {@code @Async} methods and similar Spring-managed executors.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return ContextSnapshot.capture().wrap(runnable);
+    }
+}
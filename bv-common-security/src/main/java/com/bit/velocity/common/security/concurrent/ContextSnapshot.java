@@ -0,0 +1,101 @@
+package com.bit.velocity.common.security.concurrent;
+
+import com.bit.velocity.common.security.SecurityContextHolder;
+import com.bit.velocity.common.security.UserContext;
+import com.bitvelocity.common.http.CorrelationIdFilter;
+import org.slf4j.MDC;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable snapshot of the request context that must follow work onto other threads:
+ * the BitVelocity {@link UserContext} and the MDC correlation ID.
+ *
+ * Only the correlation ID is captured from the MDC, so taking a snapshot never copies the MDC map.
+ * A snapshot is taken once at submit time and re-applied on the worker around each task.
+ */
+public final class ContextSnapshot {
+
+    private static final ContextSnapshot EMPTY = new ContextSnapshot(null, null);
+
+    private final UserContext userContext;
+    private final String correlationId;
+
+    private ContextSnapshot(UserContext userContext, String correlationId) {
+        this.userContext = userContext;
+        this.correlationId = correlationId;
+    }
+
+    /**
+     * Capture the context of the calling thread
+     */
+    public static ContextSnapshot capture() {
+        UserContext userContext = SecurityContextHolder.getUserContext();
+        String correlationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+        return userContext == null && correlationId == null ? EMPTY : new ContextSnapshot(userContext, correlationId);
+    }
+
+    public UserContext getUserContext() {
+        return userContext;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    /**
+     * Bind this snapshot to the calling thread and return the snapshot it replaced
+     */
+    public ContextSnapshot attach() {
+        ContextSnapshot previous = capture();
+        apply(userContext, correlationId);
+        return previous;
+    }
+
+    /**
+     * Decorate a task so it runs with this snapshot and restores the worker's own context afterwards.
+     * The worker's context is kept in locals, so running the task allocates no snapshot.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            UserContext previousUserContext = SecurityContextHolder.getUserContext();
+            String previousCorrelationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+            apply(userContext, correlationId);
+            try {
+                task.run();
+            } finally {
+                apply(previousUserContext, previousCorrelationId);
+            }
+        };
+    }
+
+    /**
+     * Decorate a task so it runs with this snapshot and restores the worker's own context afterwards
+     */
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            UserContext previousUserContext = SecurityContextHolder.getUserContext();
+            String previousCorrelationId = MDC.get(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+            apply(userContext, correlationId);
+            try {
+                return task.call();
+            } finally {
+                apply(previousUserContext, previousCorrelationId);
+            }
+        };
+    }
+
+    private static void apply(UserContext userContext, String correlationId) {
+        if (userContext != null) {
+            SecurityContextHolder.setUserContext(userContext);
+        } else {
+            SecurityContextHolder.clear();
+        }
+
+        if (correlationId != null) {
+            MDC.put(CorrelationIdFilter.CORRELATION_ID_MDC_KEY, correlationId);
+        } else {
+            MDC.remove(CorrelationIdFilter.CORRELATION_ID_MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bit.velocity.common.security.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks a BCrypt cost factor that hits a target hashing latency on the current hardware.
+ * Each cost step doubles the work, so calibration measures increasing costs until the
+ * target is passed and keeps whichever neighbouring cost lands closer to it.
+ */
+@Slf4j
+final class BCryptCostCalibrator {
+
+    private static final int MAX_STRENGTH = 31;
+    private static final String SAMPLE_PASSWORD = "Calibration-Sample-Password-1!";
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * Measure hashing time per cost and return the cost closest to the target latency
+     */
+    static int calibrate(Duration targetLatency, int minStrength) {
+        long targetNanos = targetLatency.toNanos();
+
+        // Warm up the JIT so the first measurement is not dominated by interpretation
+        measure(minStrength);
+
+        int strength = minStrength;
+        long elapsed = measure(strength);
+        while (elapsed < targetNanos && strength < MAX_STRENGTH) {
+            long previous = elapsed;
+            strength++;
+            elapsed = measure(strength);
+            if (elapsed >= targetNanos) {
+                if (targetNanos - previous < elapsed - targetNanos) {
+                    strength--;
+                    elapsed = previous;
+                }
+                break;
+            }
+        }
+
+        log.warn("Calibrated BCrypt cost {} (~{} ms per hash, target {} ms). Nodes on other hardware may pick "
+                        + "another cost and rehash every login to the highest one; pin it with "
+                        + "security.password.encoding.bcrypt-strength={} and calibrate=false",
+                strength, Duration.ofNanos(elapsed).toMillis(), targetLatency.toMillis(), strength);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return System.nanoTime() - start;
+    }
+}
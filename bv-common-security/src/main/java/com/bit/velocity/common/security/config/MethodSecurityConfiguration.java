@@ -0,0 +1,42 @@
+package com.bit.velocity.common.security.config;
+
+import com.bit.velocity.common.security.annotation.RequireRole;
+import com.bit.velocity.common.security.annotation.RequireRoleAuthorizationInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * Method security configuration that enforces {@link RequireRole} on Spring beans.
+ * The advisor is an infrastructure bean, so it is applied by Spring Boot's auto-proxy creator
+ * for methods annotated directly and for all methods of annotated classes.
+ */
+@Configuration
+public class MethodSecurityConfiguration {
+
+    /**
+     * Interceptor that checks the current user context against {@link RequireRole}
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static RequireRoleAuthorizationInterceptor requireRoleAuthorizationInterceptor() {
+        return new RequireRoleAuthorizationInterceptor();
+    }
+
+    /**
+     * Advisor applying the interceptor to annotated methods and classes
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor requireRoleAdvisor(RequireRoleAuthorizationInterceptor requireRoleAuthorizationInterceptor) {
+        Pointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(null, RequireRole.class, true))
+                .union(new AnnotationMatchingPointcut(RequireRole.class, true));
+        return new DefaultPointcutAdvisor(pointcut, requireRoleAuthorizationInterceptor);
+    }
+}
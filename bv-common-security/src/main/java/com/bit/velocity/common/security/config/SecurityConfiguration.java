@@ -1,23 +1,71 @@
 package com.bit.velocity.common.security.config;
 
+import com.bit.velocity.common.security.password.PasswordProperties;
+import com.bit.velocity.common.security.session.InMemorySessionStore;
+import com.bit.velocity.common.security.session.SessionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Security configuration for password encoding and basic security settings.
- * Provides BCrypt password encoder with secure defaults.
+ * Provides a delegating password encoder that writes algorithm-prefixed hashes
+ * (e.g. {@code {bcrypt}$2a$12$...}) and still verifies legacy unprefixed BCrypt hashes.
  */
 @Configuration
 public class SecurityConfiguration {
-    
+
+    private static final String BOUNCY_CASTLE_CLASS = "org.bouncycastle.crypto.generators.Argon2BytesGenerator";
+
+    /**
+     * Delegating password encoder. New hashes use {@code security.password.encoding.algorithm};
+     * {@link PasswordEncoder#upgradeEncoding(String)} reports hashes made with another algorithm
+     * or a lower BCrypt cost so they can be rehashed on the next successful login.
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        PasswordProperties.Encoding encoding = passwordProperties.getEncoding();
+        int strength = encoding.isCalibrate()
+                ? BCryptCostCalibrator.calibrate(encoding.getTargetLatency(), encoding.getMinBcryptStrength())
+                : encoding.getBcryptStrength();
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (ClassUtils.isPresent(BOUNCY_CASTLE_CLASS, getClass().getClassLoader())) {
+            encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+            encoders.put("scrypt", SCryptPasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+
+        if (!encoders.containsKey(encoding.getAlgorithm())) {
+            throw new IllegalStateException("Unsupported password hash algorithm: " + encoding.getAlgorithm()
+                    + " (available: " + encoders.keySet() + ")");
+        }
+
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(encoding.getAlgorithm(), encoders);
+        // Hashes stored before prefixes were introduced are plain BCrypt
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingEncoder;
+    }
+
     /**
-     * BCrypt password encoder with strength 12 for secure password hashing.
-     * Higher strength means more secure but slower hashing.
+     * Node-local session store; define a shared {@link SessionStore} bean to enforce limits across nodes
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    @ConditionalOnMissingBean(SessionStore.class)
+    public SessionStore sessionStore() {
+        return new InMemorySessionStore();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.bit.velocity.common.security.config;
+
+import com.bit.velocity.common.security.jwt.JwtProperties;
+import com.bit.velocity.common.security.revocation.InMemoryTokenRevocationStore;
+import com.bit.velocity.common.security.revocation.RedisTokenRevocationStore;
+import com.bit.velocity.common.security.revocation.TokenRevocationStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Revocation store selection based on {@code bitvelocity.security.jwt.revocation.store}.
+ * The Redis store requires spring-boot-starter-data-redis on the application classpath.
+ */
+@Configuration
+public class TokenRevocationConfiguration {
+
+    /**
+     * Embedded store, the default when no shared store is configured
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "bitvelocity.security.jwt.revocation", name = "store", havingValue = "memory", matchIfMissing = true)
+    public TokenRevocationStore inMemoryTokenRevocationStore() {
+        return new InMemoryTokenRevocationStore();
+    }
+
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.data.redis.core.StringRedisTemplate")
+    @ConditionalOnProperty(prefix = "bitvelocity.security.jwt.revocation", name = "store", havingValue = "redis")
+    static class RedisTokenRevocationStoreConfiguration {
+
+        /**
+         * Store shared by all nodes through Redis
+         */
+        @Bean
+        public TokenRevocationStore redisTokenRevocationStore(StringRedisTemplate redisTemplate, JwtProperties jwtProperties) {
+            JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+            return new RedisTokenRevocationStore(redisTemplate, revocation.getRedisKeyPrefix(), revocation.getRedisBatchSize());
+        }
+    }
+}
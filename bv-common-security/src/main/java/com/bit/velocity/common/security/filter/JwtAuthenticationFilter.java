@@ -2,7 +2,9 @@ package com.bit.velocity.common.security.filter;
 
 import com.bit.velocity.common.security.SecurityContextHolder;
 import com.bit.velocity.common.security.UserContext;
+import com.bit.velocity.common.security.authority.GrantedAuthorityCache;
 import com.bit.velocity.common.security.jwt.JwtTokenService;
+import com.bit.velocity.common.security.jwt.JwtVerificationResult;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +12,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -18,7 +20,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT authentication filter that extracts and validates JWT tokens from requests.
@@ -43,8 +44,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractTokenFromRequest(request);
             
-            if (token != null && !jwtTokenService.isTokenExpired(token)) {
-                UserContext userContext = jwtTokenService.extractUserContext(token);
+            JwtVerificationResult verification = token != null ? jwtTokenService.verify(token) : null;
+            
+            if (verification != null && !verification.isExpired()) {
+                UserContext userContext = verification.getUserContext();
                 
                 // Set BitVelocity security context
                 SecurityContextHolder.setUserContext(userContext);
@@ -85,13 +88,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
      * Set Spring Security authentication context
      */
     private void setSpringSecurityContext(HttpServletRequest request, UserContext userContext) {
-        List<SimpleGrantedAuthority> authorities = userContext.getRoles().stream()
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
-        
-        userContext.getPermissions().stream()
-                .map(SimpleGrantedAuthority::new)
-                .forEach(authorities::add);
+        List<GrantedAuthority> authorities = GrantedAuthorityCache.authoritiesFor(userContext);
         
         UsernamePasswordAuthenticationToken authenticationToken = 
                 new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,91 @@
+package com.bit.velocity.common.security.jwt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered dictionary of role or permission names for the compact claim profile.
+ * A set of names is encoded as a bitmap over dictionary positions, serialized as
+ * unpadded base64url of the little-endian bitmap bytes; names missing from the dictionary
+ * are carried separately as plain strings.
+ */
+final class ClaimDictionary {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String[] names;
+    private final Map<String, Integer> positions;
+
+    ClaimDictionary(List<String> names) {
+        this.names = names.toArray(new String[0]);
+        this.positions = new HashMap<>(names.size() * 2);
+        for (int i = 0; i < this.names.length; i++) {
+            positions.putIfAbsent(this.names[i], i);
+        }
+    }
+
+    /**
+     * Encode the names found in the dictionary as a bitmap; others are added to {@code extras}
+     */
+    String encode(Collection<String> values, List<String> extras) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        byte[] bitmap = new byte[(names.length + 7) >>> 3];
+        int length = 0;
+        for (String value : values) {
+            Integer position = positions.get(value);
+            if (position == null) {
+                extras.add(value);
+            } else {
+                bitmap[position >>> 3] |= (byte) (1 << (position & 7));
+                length = Math.max(length, (position >>> 3) + 1);
+            }
+        }
+        return length == 0 ? "" : ENCODER.encodeToString(length == bitmap.length ? bitmap : Arrays.copyOf(bitmap, length));
+    }
+
+    /**
+     * Decode a bitmap into a lazily materialized set, together with the names outside the dictionary
+     *
+     * @throws IllegalArgumentException if the bitmap references positions beyond the dictionary
+     */
+    DictionarySet decode(String bitmap, Collection<?> extras) {
+        byte[] bytes = bitmap == null || bitmap.isEmpty() ? new byte[0] : DECODER.decode(bitmap);
+        long[] words = new long[(bytes.length + 7) >>> 3];
+        for (int i = 0; i < bytes.length; i++) {
+            words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) << 3);
+        }
+        for (int word = names.length >>> 6; word < words.length; word++) {
+            long beyond = word == names.length >>> 6 ? -1L << (names.length & 63) : -1L;
+            if ((words[word] & beyond) != 0) {
+                throw new IllegalArgumentException("Claim bitmap does not match the claim dictionary");
+            }
+        }
+        List<String> extraNames;
+        if (extras == null || extras.isEmpty()) {
+            extraNames = List.of();
+        } else {
+            extraNames = new ArrayList<>(extras.size());
+            for (Object extra : extras) {
+                extraNames.add(String.valueOf(extra));
+            }
+        }
+        return new DictionarySet(this, words, extraNames);
+    }
+
+    String nameAt(int position) {
+        return names[position];
+    }
+
+    int positionOf(Object name) {
+        Integer position = positions.get(name);
+        return position != null ? position : -1;
+    }
+}
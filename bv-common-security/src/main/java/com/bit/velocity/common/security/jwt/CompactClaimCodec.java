@@ -0,0 +1,153 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.bit.velocity.common.security.UserContext;
+import io.jsonwebtoken.Claims;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Claim encoding of the {@code compact} profile.
+ *
+ * Claim names are abbreviated, the token type is a single letter and roles and permissions
+ * are bitmaps over the versioned dictionaries in {@code bitvelocity.security.jwt.claims.*}.
+ * The dictionary version travels in the {@code dv} claim and must match the verifier's;
+ * any change to a dictionary therefore requires a new version on every service.
+ */
+final class CompactClaimCodec {
+
+    static final String DICTIONARY_VERSION = "dv";
+    private static final String USERNAME = "un";
+    private static final String EMAIL = "em";
+    private static final String ROLES = "r";
+    private static final String ROLE_EXTRAS = "rx";
+    private static final String PERMISSIONS = "p";
+    private static final String PERMISSION_EXTRAS = "px";
+    private static final String TENANT_ID = "tid";
+    private static final String TOKEN_TYPE = "ty";
+    private static final String SESSION_ID = "sid";
+
+    /**
+     * Claims holding plain strings
+     */
+    static final List<String> STRING_CLAIMS = List.of(USERNAME, EMAIL, TENANT_ID, TOKEN_TYPE, SESSION_ID);
+
+    private final int version;
+    private final ClaimDictionary roles;
+    private final ClaimDictionary permissions;
+
+    CompactClaimCodec(JwtProperties.ClaimEncoding config) {
+        this.version = config.getDictionaryVersion();
+        this.roles = new ClaimDictionary(config.getRoles());
+        this.permissions = new ClaimDictionary(config.getPermissions());
+    }
+
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Check whether a claim set uses the compact profile
+     */
+    static boolean isCompact(Claims claims) {
+        return claims.containsKey(DICTIONARY_VERSION);
+    }
+
+    /**
+     * Add the profile-specific claims; null values are left out
+     */
+    void encode(Map<String, Object> claims, UserContext userContext, String tokenType, String sessionId) {
+        List<String> roleExtras = new ArrayList<>(0);
+        List<String> permissionExtras = new ArrayList<>(0);
+        String roleBitmap = roles.encode(userContext.getRoles(), roleExtras);
+        String permissionBitmap = permissions.encode(userContext.getPermissions(), permissionExtras);
+
+        claims.put(DICTIONARY_VERSION, version);
+        putIfPresent(claims, USERNAME, userContext.getUsername());
+        putIfPresent(claims, EMAIL, userContext.getEmail());
+        putIfPresent(claims, TENANT_ID, userContext.getTenantId());
+        putIfPresent(claims, TOKEN_TYPE, abbreviate(tokenType));
+        putIfPresent(claims, SESSION_ID, sessionId);
+        if (!roleBitmap.isEmpty()) {
+            claims.put(ROLES, roleBitmap);
+        }
+        if (!roleExtras.isEmpty()) {
+            claims.put(ROLE_EXTRAS, roleExtras);
+        }
+        if (!permissionBitmap.isEmpty()) {
+            claims.put(PERMISSIONS, permissionBitmap);
+        }
+        if (!permissionExtras.isEmpty()) {
+            claims.put(PERMISSION_EXTRAS, permissionExtras);
+        }
+    }
+
+    /**
+     * Check that a compact claim set was encoded with this dictionary version
+     *
+     * @throws IllegalArgumentException if the token was encoded with another dictionary version
+     */
+    void checkVersion(Claims claims) {
+        Object tokenVersion = claims.get(DICTIONARY_VERSION);
+        if (!(tokenVersion instanceof Number number) || number.intValue() != version) {
+            throw new IllegalArgumentException("Unsupported claim dictionary version: " + tokenVersion);
+        }
+    }
+
+    String username(Claims claims) {
+        return (String) claims.get(USERNAME);
+    }
+
+    String email(Claims claims) {
+        return (String) claims.get(EMAIL);
+    }
+
+    String tenantId(Claims claims) {
+        return (String) claims.get(TENANT_ID);
+    }
+
+    String tokenType(Claims claims) {
+        return expand((String) claims.get(TOKEN_TYPE));
+    }
+
+    String sessionId(Claims claims) {
+        return (String) claims.get(SESSION_ID);
+    }
+
+    /**
+     * Roles as a bitmap-backed set; names stay unresolved until iterated
+     */
+    Set<String> roles(Claims claims) {
+        return roles.decode((String) claims.get(ROLES), (Collection<?>) claims.get(ROLE_EXTRAS));
+    }
+
+    /**
+     * Permissions as a bitmap-backed set; names stay unresolved until iterated
+     */
+    Set<String> permissions(Claims claims) {
+        return permissions.decode((String) claims.get(PERMISSIONS), (Collection<?>) claims.get(PERMISSION_EXTRAS));
+    }
+
+    private static void putIfPresent(Map<String, Object> claims, String name, Object value) {
+        if (value != null) {
+            claims.put(name, value);
+        }
+    }
+
+    private static String abbreviate(String tokenType) {
+        if ("access".equals(tokenType)) {
+            return "a";
+        }
+        return "refresh".equals(tokenType) ? "r" : tokenType;
+    }
+
+    private static String expand(String tokenType) {
+        if ("a".equals(tokenType)) {
+            return "access";
+        }
+        return "r".equals(tokenType) ? "refresh" : tokenType;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bit.velocity.common.security.jwt;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only set of names backed by a {@link ClaimDictionary} bitmap.
+ * Membership is a bit test; names are only looked up while iterating.
+ */
+final class DictionarySet extends AbstractSet<String> {
+
+    private final ClaimDictionary dictionary;
+    private final long[] words;
+    private final List<String> extras;
+    private final int size;
+
+    DictionarySet(ClaimDictionary dictionary, long[] words, List<String> extras) {
+        this.dictionary = dictionary;
+        this.words = words;
+        this.extras = extras;
+        int count = extras.size();
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    @Override
+    public boolean contains(Object name) {
+        int position = dictionary.positionOf(name);
+        if (position < 0) {
+            return extras.contains(name);
+        }
+        int word = position >>> 6;
+        return word < words.length && (words[word] & (1L << position)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int word = 0;
+            private long remaining = words.length > 0 ? words[0] : 0;
+            private int extra = 0;
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0 && word + 1 < words.length) {
+                    remaining = words[++word];
+                }
+                return remaining != 0 || extra < extras.size();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (remaining != 0) {
+                    int position = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+                    return dictionary.nameAt(position);
+                }
+                return extras.get(extra++);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact JWS signer for HMAC algorithms, bound to one key version.
+ *
+ * The encoded header is computed once, the payload is serialized directly with Jackson, and
+ * each thread reuses its own initialized {@link Mac} ({@code doFinal} resets it for the next token).
+ * Produces the same token format as the jjwt builder, so tokens verify with the regular parser.
+ */
+final class HmacTokenSigner {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final String encodedHeader;
+    private final ThreadLocal<Mac> macs;
+
+    HmacTokenSigner(SignatureAlgorithm algorithm, Key key, String keyId) {
+        Map<String, Object> header = new LinkedHashMap<>();
+        if (keyId != null) {
+            header.put(JwsHeader.KEY_ID, keyId);
+        }
+        header.put(JwsHeader.ALGORITHM, algorithm.getValue());
+        this.encodedHeader = BASE64URL.encodeToString(serialize(header)) + '.';
+
+        String jcaName = algorithm.getJcaName();
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(jcaName);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Cannot initialize " + jcaName + " for JWT signing", e);
+            }
+        });
+        // Fail at key load rather than on the first token
+        macs.get();
+    }
+
+    /**
+     * Serialize and sign a claim set into a compact JWS
+     */
+    String sign(Map<String, Object> claims) {
+        byte[] payload = serialize(claims);
+        StringBuilder token = new StringBuilder(encodedHeader.length() + payload.length * 4 / 3 + 48)
+                .append(encodedHeader)
+                .append(BASE64URL.encodeToString(payload));
+        byte[] signature = macs.get().doFinal(token.toString().getBytes(StandardCharsets.US_ASCII));
+        return token.append('.').append(BASE64URL.encodeToString(signature)).toString();
+    }
+
+    private static byte[] serialize(Map<String, Object> value) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize JWT", e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.ECPublicKeySpec;
+import java.security.spec.RSAPrivateCrtKeySpec;
+import java.security.spec.RSAPrivateKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, in-memory index of the keys in a JWKS document, looked up by {@code kid}.
+ * Supports RSA and EC (P-256, P-384, P-521) keys; every key in the document stays
+ * active for verification, which allows overlapping keys during rotation.
+ * Keys that carry private parameters can also be used for signing.
+ *
+ * A key is only used with its {@code alg}. Keys without one are limited to their type's family:
+ * RSA keys to the RS and PS algorithms, EC keys to the single algorithm defined for their curve.
+ */
+@Slf4j
+final class JwksKeySet {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Set<SignatureAlgorithm> RSA_ALGORITHMS = EnumSet.of(
+            SignatureAlgorithm.RS256, SignatureAlgorithm.RS384, SignatureAlgorithm.RS512,
+            SignatureAlgorithm.PS256, SignatureAlgorithm.PS384, SignatureAlgorithm.PS512);
+
+    private final Map<String, JwkKey> keysById;
+
+    private JwksKeySet(Map<String, JwkKey> keysById) {
+        this.keysById = keysById;
+    }
+
+    /**
+     * Load a JWKS document from a Spring resource location (classpath:, file: or URL)
+     */
+    static JwksKeySet load(String location) {
+        if (location == null || location.isBlank()) {
+            throw new IllegalStateException("bitvelocity.security.jwt.jwks-location is required for asymmetric algorithms");
+        }
+
+        Resource resource = new DefaultResourceLoader().getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            JsonNode keys = OBJECT_MAPPER.readTree(in).path("keys");
+            Map<String, JwkKey> keysById = new HashMap<>();
+            for (JsonNode jwk : keys) {
+                JwkKey key = parseKey(jwk);
+                if (key != null) {
+                    keysById.put(key.kid(), key);
+                }
+            }
+            if (keysById.isEmpty()) {
+                throw new IllegalStateException("No usable signing keys found in JWKS " + location);
+            }
+            log.info("Loaded {} JWKS keys from {}", keysById.size(), location);
+            return new JwksKeySet(Map.copyOf(keysById));
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read JWKS from " + location, e);
+        }
+    }
+
+    /**
+     * Find a key by its id, or null if the key set does not contain it
+     */
+    JwkKey find(String kid) {
+        return kid != null ? keysById.get(kid) : null;
+    }
+
+    /**
+     * Parse a single JWK; returns null for keys that cannot be used for signatures
+     */
+    private static JwkKey parseKey(JsonNode jwk) {
+        String kid = jwk.path("kid").asText(null);
+        String kty = jwk.path("kty").asText(null);
+        String use = jwk.path("use").asText("sig");
+        if (kid == null || !"sig".equals(use)) {
+            log.warn("Skipping JWKS key without kid or not meant for signatures: kid={}, use={}", kid, use);
+            return null;
+        }
+
+        SignatureAlgorithm algorithm = null;
+        try {
+            if (jwk.hasNonNull("alg")) {
+                algorithm = SignatureAlgorithm.forName(jwk.get("alg").asText());
+            }
+        } catch (JwtException e) {
+            log.warn("Skipping JWKS key {} with unsupported algorithm {}", kid, jwk.get("alg").asText());
+            return null;
+        }
+
+        try {
+            if ("RSA".equals(kty)) {
+                return parseRsaKey(kid, algorithm, jwk);
+            }
+            if ("EC".equals(kty)) {
+                return parseEcKey(kid, algorithm, jwk);
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWKS key " + kid, e);
+        }
+        log.warn("Skipping JWKS key {} with unsupported key type {}", kid, kty);
+        return null;
+    }
+
+    /**
+     * Algorithms a key may be used with: its pinned {@code alg} if it belongs to the family, else the whole family
+     */
+    private static Set<SignatureAlgorithm> allowedAlgorithms(String kid, SignatureAlgorithm algorithm,
+                                                             Set<SignatureAlgorithm> family) {
+        if (algorithm == null) {
+            return family;
+        }
+        if (!family.contains(algorithm)) {
+            throw new IllegalStateException("JWKS key " + kid + " cannot be used with algorithm " + algorithm);
+        }
+        return EnumSet.of(algorithm);
+    }
+
+    private static JwkKey parseRsaKey(String kid, SignatureAlgorithm algorithm, JsonNode jwk) throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        BigInteger modulus = decode(jwk, "n");
+        PublicKey publicKey = keyFactory.generatePublic(new RSAPublicKeySpec(modulus, decode(jwk, "e")));
+
+        PrivateKey privateKey = null;
+        if (jwk.hasNonNull("d")) {
+            privateKey = jwk.hasNonNull("p")
+                    ? keyFactory.generatePrivate(new RSAPrivateCrtKeySpec(modulus, decode(jwk, "e"), decode(jwk, "d"),
+                            decode(jwk, "p"), decode(jwk, "q"), decode(jwk, "dp"), decode(jwk, "dq"), decode(jwk, "qi")))
+                    : keyFactory.generatePrivate(new RSAPrivateKeySpec(modulus, decode(jwk, "d")));
+        }
+        return new JwkKey(kid, allowedAlgorithms(kid, algorithm, RSA_ALGORITHMS), publicKey, privateKey);
+    }
+
+    private static JwkKey parseEcKey(String kid, SignatureAlgorithm algorithm, JsonNode jwk) throws GeneralSecurityException {
+        String crv = jwk.path("crv").asText();
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec(curveName(crv)));
+        ECParameterSpec curve = parameters.getParameterSpec(ECParameterSpec.class);
+
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        ECPoint point = new ECPoint(decode(jwk, "x"), decode(jwk, "y"));
+        PublicKey publicKey = keyFactory.generatePublic(new ECPublicKeySpec(point, curve));
+
+        PrivateKey privateKey = jwk.hasNonNull("d")
+                ? keyFactory.generatePrivate(new ECPrivateKeySpec(decode(jwk, "d"), curve))
+                : null;
+        return new JwkKey(kid, allowedAlgorithms(kid, algorithm, EnumSet.of(curveAlgorithm(crv))), publicKey, privateKey);
+    }
+
+    private static String curveName(String crv) {
+        return switch (crv) {
+            case "P-256" -> "secp256r1";
+            case "P-384" -> "secp384r1";
+            case "P-521" -> "secp521r1";
+            default -> throw new IllegalStateException("Unsupported EC curve " + crv);
+        };
+    }
+
+    private static SignatureAlgorithm curveAlgorithm(String crv) {
+        return switch (crv) {
+            case "P-256" -> SignatureAlgorithm.ES256;
+            case "P-384" -> SignatureAlgorithm.ES384;
+            case "P-521" -> SignatureAlgorithm.ES512;
+            default -> throw new IllegalStateException("Unsupported EC curve " + crv);
+        };
+    }
+
+    private static BigInteger decode(JsonNode jwk, String field) {
+        String value = jwk.path(field).asText(null);
+        if (value == null) {
+            throw new IllegalStateException("JWKS key is missing parameter " + field);
+        }
+        return new BigInteger(1, Base64.getUrlDecoder().decode(value));
+    }
+
+    /**
+     * A single JWKS entry; {@code algorithms} holds the pinned algorithm or the key type's family,
+     * {@code privateKey} is null for verification-only keys
+     */
+    record JwkKey(String kid, Set<SignatureAlgorithm> algorithms, PublicKey publicKey, PrivateKey privateKey) {
+
+        boolean allows(SignatureAlgorithm algorithm) {
+            return algorithms.contains(algorithm);
+        }
+
+        /**
+         * Check a JWS {@code alg} header value
+         */
+        boolean allows(String algorithm) {
+            for (SignatureAlgorithm candidate : algorithms) {
+                if (candidate.getValue().equals(algorithm)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,21 +1,28 @@
 package com.bit.velocity.common.security.jwt;
 
+import com.bit.velocity.common.security.UserContext;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Set;
 
 /**
  * JWT token claims structure following BitVelocity security patterns.
  * Contains user identity and authorization information.
+ * 
+ * Timestamps are stored as epoch seconds, exactly as they appear in the token;
+ * the {@link LocalDateTime} accessors convert in the system time zone on demand.
  */
 @Data
 @Builder
 @NoArgsConstructor
-@AllArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
 public class JwtClaims {
     
     /**
@@ -54,17 +61,120 @@ public class JwtClaims {
     private String tokenType;
     
     /**
-     * Token issued at timestamp
+     * Token issued at timestamp, in epoch seconds
      */
-    private LocalDateTime issuedAt;
+    private Long issuedAtEpochSecond;
     
     /**
-     * Token expiration timestamp
+     * Token expiration timestamp, in epoch seconds
      */
-    private LocalDateTime expiresAt;
+    private Long expiresAtEpochSecond;
     
     /**
      * Session identifier for token invalidation
      */
     private String sessionId;
+    
+    /**
+     * Unique token identifier (jti) for revoking a single token
+     */
+    private String tokenId;
+    
+    /**
+     * Claims with {@link LocalDateTime} timestamps in the system time zone
+     */
+    public JwtClaims(String userId, String username, String email, Set<String> roles, Set<String> permissions,
+                     String tenantId, String tokenType, LocalDateTime issuedAt, LocalDateTime expiresAt, String sessionId) {
+        this(userId, username, email, roles, permissions, tenantId, tokenType, issuedAt, expiresAt, sessionId, null);
+    }
+    
+    /**
+     * Claims with {@link LocalDateTime} timestamps in the system time zone and a token id
+     */
+    public JwtClaims(String userId, String username, String email, Set<String> roles, Set<String> permissions,
+                     String tenantId, String tokenType, LocalDateTime issuedAt, LocalDateTime expiresAt, String sessionId,
+                     String tokenId) {
+        this(userId, username, email, roles, permissions, tenantId, tokenType,
+                toEpochSecond(issuedAt), toEpochSecond(expiresAt), sessionId, tokenId);
+    }
+    
+    /**
+     * Token issued at timestamp in the system time zone
+     */
+    public LocalDateTime getIssuedAt() {
+        return toLocalDateTime(getIssuedAtEpochSecond());
+    }
+    
+    public void setIssuedAt(LocalDateTime issuedAt) {
+        setIssuedAtEpochSecond(toEpochSecond(issuedAt));
+    }
+    
+    /**
+     * Token expiration timestamp in the system time zone
+     */
+    public LocalDateTime getExpiresAt() {
+        return toLocalDateTime(getExpiresAtEpochSecond());
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        setExpiresAtEpochSecond(toEpochSecond(expiresAt));
+    }
+    
+    /**
+     * Copy of these claims as a plain instance; role and permission sets are shared
+     */
+    public JwtClaims copy() {
+        JwtClaims copy = new JwtClaims();
+        copy.setTokenId(getTokenId());
+        copy.setUserId(getUserId());
+        copy.setUsername(getUsername());
+        copy.setEmail(getEmail());
+        copy.setRoles(getRoles());
+        copy.setPermissions(getPermissions());
+        copy.setTenantId(getTenantId());
+        copy.setTokenType(getTokenType());
+        copy.setIssuedAtEpochSecond(getIssuedAtEpochSecond());
+        copy.setExpiresAtEpochSecond(getExpiresAtEpochSecond());
+        copy.setSessionId(getSessionId());
+        return copy;
+    }
+    
+    /**
+     * Build the user context carried by these claims
+     */
+    public UserContext toUserContext() {
+        UserContext userContext = new UserContext();
+        userContext.setUserId(getUserId());
+        userContext.setUsername(getUsername());
+        userContext.setEmail(getEmail());
+        userContext.setRoles(getRoles());
+        userContext.setPermissions(getPermissions());
+        userContext.setTenantId(getTenantId());
+        
+        return userContext;
+    }
+    
+    private static LocalDateTime toLocalDateTime(Long epochSecond) {
+        return epochSecond != null ? LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()) : null;
+    }
+    
+    private static Long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() : null;
+    }
+    
+    /**
+     * Builder additions keeping the {@link LocalDateTime} builder methods
+     */
+    public static class JwtClaimsBuilder {
+        
+        public JwtClaimsBuilder issuedAt(LocalDateTime issuedAt) {
+            this.issuedAtEpochSecond = toEpochSecond(issuedAt);
+            return this;
+        }
+        
+        public JwtClaimsBuilder expiresAt(LocalDateTime expiresAt) {
+            this.expiresAtEpochSecond = toEpochSecond(expiresAt);
+            return this;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.bit.velocity.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwtParserBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable snapshot of the signing key and prebuilt parser for one key version.
+ * Built once per {@link JwtProperties} state and shared by all request threads;
+ * {@link JwtParser} instances are thread-safe.
+ *
+ * HMAC algorithms use the shared secret. RSA and EC algorithms resolve verification keys
+ * by the {@code kid} header from a {@link JwksKeySet} and sign with {@code signingKeyId}.
+ * An unknown {@code kid} reloads the JWKS document, at most once per {@code jwksRefreshInterval}.
+ */
+@Getter
+@Slf4j
+final class JwtKeyMaterial {
+
+    private final int version;
+    private final SignatureAlgorithm algorithm;
+    private final String secret;
+    private final String jwksLocation;
+    private final Duration jwksRefreshInterval;
+    private final String signingKeyId;
+    private final String issuer;
+    private final String audience;
+    private final Duration clockSkew;
+    private final Key signingKey;
+    private final JwtParser parser;
+
+    /**
+     * Fast signer for HMAC algorithms, null for RSA and EC
+     */
+    private final HmacTokenSigner hmacSigner;
+
+    JwtKeyMaterial(int version, JwtProperties jwtProperties) {
+        this.version = version;
+        this.algorithm = jwtProperties.getAlgorithm();
+        this.secret = jwtProperties.getSecret();
+        this.jwksLocation = jwtProperties.getJwksLocation();
+        this.jwksRefreshInterval = jwtProperties.getJwksRefreshInterval();
+        this.signingKeyId = jwtProperties.getSigningKeyId();
+        this.issuer = jwtProperties.getIssuer();
+        this.audience = jwtProperties.getAudience();
+        this.clockSkew = jwtProperties.getClockSkew();
+
+        JwtParserBuilder parserBuilder = Jwts.parserBuilder()
+                .setAllowedClockSkewSeconds(clockSkew.toSeconds())
+                .requireIssuer(issuer)
+                .requireAudience(audience);
+
+        if (algorithm.isHmac()) {
+            this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            parserBuilder.setSigningKey(signingKey);
+            this.hmacSigner = new HmacTokenSigner(algorithm, signingKey, signingKeyId);
+        } else if (algorithm.isRsa() || algorithm.isEllipticCurve()) {
+            JwksKeySet keySet = JwksKeySet.load(jwksLocation);
+            this.signingKey = resolveSigningKey(keySet);
+            parserBuilder.setSigningKeyResolver(new JwksSigningKeyResolver(keySet, jwksLocation, jwksRefreshInterval));
+            this.hmacSigner = null;
+        } else {
+            throw new IllegalStateException("Unsupported JWT signature algorithm " + algorithm);
+        }
+
+        this.parser = parserBuilder.build();
+    }
+
+    /**
+     * Whether this node holds a key for signing new tokens
+     */
+    boolean canSign() {
+        return signingKey != null;
+    }
+
+    /**
+     * Check whether this snapshot still reflects the given properties.
+     * Unchanged properties hold the same instances, so this is normally a handful of reference checks.
+     */
+    boolean matches(JwtProperties jwtProperties) {
+        return algorithm == jwtProperties.getAlgorithm()
+                && Objects.equals(secret, jwtProperties.getSecret())
+                && Objects.equals(jwksLocation, jwtProperties.getJwksLocation())
+                && Objects.equals(jwksRefreshInterval, jwtProperties.getJwksRefreshInterval())
+                && Objects.equals(signingKeyId, jwtProperties.getSigningKeyId())
+                && issuer.equals(jwtProperties.getIssuer())
+                && audience.equals(jwtProperties.getAudience())
+                && clockSkew.equals(jwtProperties.getClockSkew());
+    }
+
+    /**
+     * Private key for {@code signingKeyId}; verification-only nodes leave the id unset
+     */
+    private Key resolveSigningKey(JwksKeySet keySet) {
+        if (signingKeyId == null) {
+            return null;
+        }
+        JwksKeySet.JwkKey key = keySet.find(signingKeyId);
+        if (key == null || key.privateKey() == null) {
+            throw new IllegalStateException("JWKS has no private key for signing key id " + signingKeyId);
+        }
+        if (!key.allows(algorithm)) {
+            throw new IllegalStateException("Signing key " + signingKeyId + " cannot be used with " + algorithm
+                    + ", only with " + key.algorithms());
+        }
+        return key.privateKey();
+    }
+
+    /**
+     * Resolves the verification key by {@code kid}, rejecting unknown ids and algorithm mismatches.
+     * An unknown id reloads the key set unless it was reloaded within the refresh interval; only one
+     * thread reloads, the others reject the token meanwhile.
+     */
+    private static final class JwksSigningKeyResolver extends SigningKeyResolverAdapter {
+
+        private final String location;
+        private final long refreshIntervalNanos;
+        private final AtomicLong nextRefreshNanos;
+        private volatile JwksKeySet keySet;
+
+        private JwksSigningKeyResolver(JwksKeySet keySet, String location, Duration refreshInterval) {
+            this.keySet = keySet;
+            this.location = location;
+            this.refreshIntervalNanos = refreshInterval.toNanos();
+            this.nextRefreshNanos = new AtomicLong(System.nanoTime() + refreshIntervalNanos);
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            JwksKeySet.JwkKey key = keySet.find(kid);
+            if (key == null && kid != null && refresh()) {
+                key = keySet.find(kid);
+            }
+            if (key == null) {
+                throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+            }
+            if (!key.allows(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("Algorithm " + header.getAlgorithm() + " not allowed for key " + key.kid());
+            }
+            return key.publicKey();
+        }
+
+        /**
+         * Reload the key set if the refresh interval has passed
+         *
+         * @return whether a new key set was loaded
+         */
+        private boolean refresh() {
+            long now = System.nanoTime();
+            long next = nextRefreshNanos.get();
+            if (now - next < 0 || !nextRefreshNanos.compareAndSet(next, now + refreshIntervalNanos)) {
+                return false;
+            }
+            try {
+                keySet = JwksKeySet.load(location);
+                return true;
+            } catch (IllegalStateException e) {
+                log.warn("JWKS reload from {} failed, keeping the current keys: {}", location, e.getMessage());
+                return false;
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.bit.velocity.common.security.jwt;
 
+import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * JWT configuration properties.
@@ -21,6 +24,29 @@ public class JwtProperties {
      */
     private String secret = "bitvelocity-default-secret-key-change-in-production-minimum-256-bits-required-for-hs256";
     
+    /**
+     * Signature algorithm. HMAC algorithms (HS256) use the shared secret;
+     * RSA and EC algorithms (RS256, ES256, ...) use the keys from the JWKS document
+     */
+    private SignatureAlgorithm algorithm = SignatureAlgorithm.HS256;
+    
+    /**
+     * JWKS document location for asymmetric algorithms, e.g. classpath:jwks.json or file:/etc/bitvelocity/jwks.json
+     */
+    private String jwksLocation;
+    
+    /**
+     * Minimum delay between JWKS reloads triggered by tokens signed with an unknown key id,
+     * so keys added during rotation are picked up without letting such tokens force a reload per request
+     */
+    private Duration jwksRefreshInterval = Duration.ofMinutes(1);
+    
+    /**
+     * Key id (kid) of the JWKS key used to sign new tokens.
+     * Services that only verify tokens leave this unset and need no private key
+     */
+    private String signingKeyId;
+    
     /**
      * Access token expiration time
      */
@@ -50,4 +76,115 @@ public class JwtProperties {
      * Clock skew tolerance for token validation
      */
     private Duration clockSkew = Duration.ofMinutes(1);
+    
+    /**
+     * Verified token cache settings
+     */
+    private Cache cache = new Cache();
+    
+    /**
+     * Claim encoding of issued tokens
+     */
+    private ClaimEncoding claims = new ClaimEncoding();
+    
+    /**
+     * Token and session revocation settings
+     */
+    private Revocation revocation = new Revocation();
+    
+    /**
+     * Settings for caching verified tokens so repeated bearer tokens skip signature checks
+     */
+    @Data
+    public static class Cache {
+        
+        /**
+         * Whether verified tokens are cached
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Maximum number of cached tokens
+         */
+        private int maxSize = 10_000;
+    }
+    
+    /**
+     * Settings for rejecting revoked tokens and sessions from a locally replicated revocation list
+     */
+    @Data
+    public static class Revocation {
+        
+        /**
+         * Whether tokens are checked against the revocation list
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Shared revocation store: memory (single node, tests) or redis
+         */
+        private String store = "memory";
+        
+        /**
+         * How often each node pulls new revocations from the store
+         */
+        private Duration refreshInterval = Duration.ofSeconds(5);
+        
+        /**
+         * Expected number of live revocations, used to size the local Bloom filter
+         */
+        private int expectedRevocations = 100_000;
+        
+        /**
+         * Bloom filter false positive rate; false positives only cost an exact map lookup
+         */
+        private double falsePositiveRate = 0.01;
+        
+        /**
+         * Key prefix of the Redis store
+         */
+        private String redisKeyPrefix = "bv:security:revocation";
+        
+        /**
+         * Maximum number of revocations fetched from Redis per round trip
+         */
+        private int redisBatchSize = 1000;
+    }
+    
+    /**
+     * Claim profiles: {@code STANDARD} uses readable claim names and string arrays,
+     * {@code COMPACT} abbreviated names and dictionary bitmaps for roles and permissions
+     */
+    public enum ClaimProfile {
+        STANDARD,
+        COMPACT
+    }
+    
+    /**
+     * Settings for the claim encoding of issued tokens. Verification accepts both profiles,
+     * so issuers can switch profile without coordinating with verifiers
+     */
+    @Data
+    public static class ClaimEncoding {
+        
+        /**
+         * Profile used when issuing tokens
+         */
+        private ClaimProfile profile = ClaimProfile.STANDARD;
+        
+        /**
+         * Version of the role and permission dictionaries; bump on any change to them
+         */
+        private int dictionaryVersion = 1;
+        
+        /**
+         * Role dictionary; roles outside it are carried as plain strings
+         */
+        private List<String> roles = new ArrayList<>();
+        
+        /**
+         * Permission dictionary; permissions outside it are carried as plain strings
+         */
+        private List<String> permissions = new ArrayList<>();
+    }
 }
\ No newline at end of file
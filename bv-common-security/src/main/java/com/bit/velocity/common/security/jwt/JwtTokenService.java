@@ -1,25 +1,31 @@
 package com.bit.velocity.common.security.jwt;
 
+import com.bit.velocity.common.id.IdGenerator;
+import com.bit.velocity.common.id.SecureRandomIdGenerator;
 import com.bit.velocity.common.security.UserContext;
+import com.bit.velocity.common.security.revocation.TokenRevocationRegistry;
+import com.bit.velocity.common.security.session.ActiveSession;
+import com.bit.velocity.common.security.session.SessionRegistry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Date;
-import java.util.Set;
-import java.util.UUID;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * JWT token service for BitVelocity authentication.
  * Implements secure token generation, validation, and refresh following security best practices.
  * 
  * Security features:
- * - HMAC-SHA256 signing
+ * - HMAC-SHA256 signing, or RS256/ES256 with kid-indexed JWKS keys
  * - Configurable expiration
  * - Claims validation
  * - Token refresh capability
@@ -29,41 +35,114 @@ import java.util.UUID;
 @Slf4j
 public class JwtTokenService {
     
+    /**
+     * Token and session ids must not be guessable from ids seen before, unlike time-ordered ids
+     */
+    private static final IdGenerator TOKEN_IDS = new SecureRandomIdGenerator();
+    
     private final JwtProperties jwtProperties;
+    private final JwtVerificationCache verificationCache;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final SessionRegistry sessionRegistry;
+    
+    private final AtomicReference<JwtKeyMaterial> keyMaterial = new AtomicReference<>();
+    private volatile CompactClaimCodec claimCodec;
     
     /**
-     * Generate access token for authenticated user
+     * Start a tracked session on login and issue its access and refresh tokens.
+     * The user's oldest sessions are ended once {@code security.session.concurrent-sessions} is exceeded.
+     * Both tokens expire no later than the session, so an expired session cannot be renewed
+     * and never outlives the limit it was counted against.
+     *
+     * @throws IllegalArgumentException if the user context has no user id
+     */
+    public TokenPair startSession(UserContext userContext) {
+        ActiveSession session = sessionRegistry.registerSession(userContext.getUserId(), TOKEN_IDS.nextString());
+        JwtKeyMaterial keys = signingKeyMaterial();
+        Instant now = Instant.now();
+        return new TokenPair(
+                issueToken(keys, userContext, "access", now,
+                        capped(now.plus(jwtProperties.getAccessTokenExpiry()), session.expiresAt()),
+                        TOKEN_IDS.nextString(), session.sessionId()),
+                issueToken(keys, userContext, "refresh", now,
+                        capped(now.plus(jwtProperties.getRefreshTokenExpiry()), session.expiresAt()),
+                        TOKEN_IDS.nextString(), session.sessionId()),
+                session.sessionId());
+    }
+    
+    /**
+     * Issue a new access token for the session of a valid refresh token, without starting a new session
+     *
+     * @throws JwtException if the token is invalid, expired, revoked or not a refresh token
+     */
+    public String refreshAccessToken(String refreshToken) {
+        JwtClaims claims = verifyNotExpired(refreshToken).getSharedClaims();
+        if (!"refresh".equals(claims.getTokenType())) {
+            throw new JwtException("Not a refresh token");
+        }
+        Instant now = Instant.now();
+        Instant expiration = now.plus(jwtProperties.getAccessTokenExpiry());
+        if (claims.getExpiresAtEpochSecond() != null) {
+            expiration = capped(expiration, Instant.ofEpochSecond(claims.getExpiresAtEpochSecond()));
+        }
+        return issueToken(signingKeyMaterial(), claims.toUserContext(), "access", now, expiration,
+                TOKEN_IDS.nextString(), claims.getSessionId());
+    }
+    
+    /**
+     * Generate an access token outside any tracked session.
+     * Its random session id is not counted against {@code security.session.concurrent-sessions};
+     * use {@link #startSession(UserContext)} on login instead.
      */
     public String generateAccessToken(UserContext userContext) {
-        return generateToken(userContext, "access", jwtProperties.getAccessTokenExpiry().toMinutes());
+        return generateToken(userContext, "access", jwtProperties.getAccessTokenExpiry().toMinutes(), TOKEN_IDS.nextString());
+    }
+    
+    /**
+     * Generate an access token for an existing session, e.g. when renewing it
+     */
+    public String generateAccessToken(UserContext userContext, String sessionId) {
+        return generateSessionToken(userContext, "access", jwtProperties.getAccessTokenExpiry().toMinutes(), sessionId);
     }
     
     /**
-     * Generate refresh token for token renewal
+     * Generate a refresh token outside any tracked session; see {@link #generateAccessToken(UserContext)}
      */
     public String generateRefreshToken(UserContext userContext) {
-        return generateToken(userContext, "refresh", jwtProperties.getRefreshTokenExpiry().toMinutes());
+        return generateToken(userContext, "refresh", jwtProperties.getRefreshTokenExpiry().toMinutes(), TOKEN_IDS.nextString());
     }
     
     /**
-     * Validate and parse JWT token
+     * Generate refresh token bound to an existing session, so ending the session also revokes it
      */
-    public JwtClaims validateToken(String token) {
+    public String generateRefreshToken(UserContext userContext, String sessionId) {
+        return generateSessionToken(userContext, "refresh", jwtProperties.getRefreshTokenExpiry().toMinutes(), sessionId);
+    }
+    
+    /**
+     * Verify the token signature and parse its claims exactly once.
+     * An expired but otherwise valid token is reported through {@link JwtVerificationResult#isExpired()}
+     * instead of an exception, so callers can decide how to treat it without re-parsing.
+     * Revoked tokens and tokens of revoked sessions are rejected, including cached ones.
+     */
+    public JwtVerificationResult verify(String token) {
+        JwtKeyMaterial keys = currentKeyMaterial();
+        
+        JwtVerificationResult cached = verificationCache.get(token, keys.getVersion());
+        if (cached != null) {
+            checkNotRevoked(cached.getSharedClaims());
+            return cached;
+        }
+        
+        Claims payload;
+        boolean expired;
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .setAllowedClockSkewSeconds(jwtProperties.getClockSkew().toSeconds())
-                    .requireIssuer(jwtProperties.getIssuer())
-                    .requireAudience(jwtProperties.getAudience())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return mapClaimsToJwtClaims(claims);
-            
+            payload = keys.getParser().parseClaimsJws(token).getBody();
+            expired = false;
         } catch (ExpiredJwtException e) {
-            log.warn("JWT token expired: {}", e.getMessage());
-            throw new JwtException("Token expired", e);
+            log.debug("JWT token expired: {}", e.getMessage());
+            payload = e.getClaims();
+            expired = true;
         } catch (UnsupportedJwtException e) {
             log.warn("Unsupported JWT token: {}", e.getMessage());
             throw new JwtException("Unsupported token", e);
@@ -74,23 +153,57 @@ public class JwtTokenService {
             log.warn("JWT validation failed: {}", e.getMessage());
             throw new JwtException("Token validation failed", e);
         }
+        
+        JwtClaims claims;
+        try {
+            claims = mapClaimsToJwtClaims(payload);
+        } catch (IllegalArgumentException e) {
+            log.warn("JWT claims rejected: {}", e.getMessage());
+            throw new JwtException("Token validation failed", e);
+        }
+        
+        checkNotRevoked(claims);
+        
+        JwtVerificationResult result = new JwtVerificationResult(claims, expired);
+        verificationCache.put(token, keys.getVersion(), result);
+        return result;
+    }
+    
+    /**
+     * Revoke a token so that it fails validation on every node
+     */
+    public void revokeToken(String token) {
+        revocationRegistry.revokeToken(verify(token).getSharedClaims());
+    }
+    
+    private void checkNotRevoked(JwtClaims claims) {
+        if (revocationRegistry.isRevoked(claims)) {
+            log.warn("Revoked JWT token presented for user: {}", claims.getUserId());
+            throw new JwtException("Token revoked");
+        }
+    }
+    
+    /**
+     * Validate and parse JWT token
+     */
+    public JwtClaims validateToken(String token) {
+        return verifyNotExpired(token).getClaims();
     }
     
     /**
      * Extract user context from validated token
      */
     public UserContext extractUserContext(String token) {
-        JwtClaims claims = validateToken(token);
-        
-        UserContext userContext = new UserContext();
-        userContext.setUserId(claims.getUserId());
-        userContext.setUsername(claims.getUsername());
-        userContext.setEmail(claims.getEmail());
-        userContext.setRoles(claims.getRoles());
-        userContext.setPermissions(claims.getPermissions());
-        userContext.setTenantId(claims.getTenantId());
-        
-        return userContext;
+        return verifyNotExpired(token).getUserContext();
+    }
+    
+    private JwtVerificationResult verifyNotExpired(String token) {
+        JwtVerificationResult result = verify(token);
+        if (result.isExpired()) {
+            log.warn("JWT token expired for user: {}", result.getSharedClaims().getUserId());
+            throw new JwtException("Token expired");
+        }
+        return result;
     }
     
     /**
@@ -98,66 +211,170 @@ public class JwtTokenService {
      */
     public boolean isTokenExpired(String token) {
         try {
-            JwtClaims claims = validateToken(token);
-            return LocalDateTime.now().isAfter(claims.getExpiresAt());
+            return verify(token).isExpired();
         } catch (JwtException e) {
             return true;
         }
     }
     
+    /**
+     * Issue access and refresh token pairs for many users in one call, e.g. for token exchange
+     * or load generation. All tokens of a batch share one issue time and key version; each pair
+     * gets its own session. Batch sessions are meant for machine clients and are not tracked
+     * by the session registry, so they do not count against concurrent-session limits.
+     */
+    public List<TokenPair> generateTokenPairs(Collection<UserContext> userContexts) {
+        JwtKeyMaterial keys = signingKeyMaterial();
+        Instant now = Instant.now();
+        Instant accessExpiration = now.plus(jwtProperties.getAccessTokenExpiry());
+        Instant refreshExpiration = now.plus(jwtProperties.getRefreshTokenExpiry());
+        
+        List<TokenPair> pairs = new ArrayList<>(userContexts.size());
+        for (UserContext userContext : userContexts) {
+            String sessionId = TOKEN_IDS.nextString();
+            pairs.add(new TokenPair(
+                    issueToken(keys, userContext, "access", now, accessExpiration, TOKEN_IDS.nextString(), sessionId),
+                    issueToken(keys, userContext, "refresh", now, refreshExpiration, TOKEN_IDS.nextString(), sessionId),
+                    sessionId));
+        }
+        return pairs;
+    }
+    
     /**
      * Generate JWT token with specified type and expiration
      */
-    private String generateToken(UserContext userContext, String tokenType, long expirationMinutes) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime expiration = now.plusMinutes(expirationMinutes);
+    private String generateToken(UserContext userContext, String tokenType, long expirationMinutes, String sessionId) {
+        JwtKeyMaterial keys = signingKeyMaterial();
+        Instant now = Instant.now();
+        Instant expiration = now.plus(expirationMinutes, ChronoUnit.MINUTES);
+        
+        return issueToken(keys, userContext, tokenType, now, expiration, TOKEN_IDS.nextString(), sessionId);
+    }
+    
+    /**
+     * Generate a token that expires no later than its session when the session is tracked on this node
+     */
+    private String generateSessionToken(UserContext userContext, String tokenType, long expirationMinutes, String sessionId) {
+        JwtKeyMaterial keys = signingKeyMaterial();
+        Instant now = Instant.now();
+        Instant expiration = now.plus(expirationMinutes, ChronoUnit.MINUTES);
+        ActiveSession session = sessionRegistry.getActiveSession(userContext.getUserId(), sessionId);
+        if (session != null) {
+            expiration = capped(expiration, session.expiresAt());
+        }
+        return issueToken(keys, userContext, tokenType, now, expiration, TOKEN_IDS.nextString(), sessionId);
+    }
+    
+    private static Instant capped(Instant expiration, Instant limit) {
+        return expiration.isAfter(limit) ? limit : expiration;
+    }
+    
+    /**
+     * Get the current key material, which must hold a signing key
+     */
+    private JwtKeyMaterial signingKeyMaterial() {
+        JwtKeyMaterial keys = currentKeyMaterial();
+        if (!keys.canSign()) {
+            throw new IllegalStateException("No signing key configured; set bitvelocity.security.jwt.signing-key-id");
+        }
+        return keys;
+    }
+    
+    /**
+     * Build the claim set for the configured profile and sign it.
+     * HMAC keys use the pre-initialized {@link HmacTokenSigner}; RSA and EC keys go through the jjwt builder.
+     */
+    private String issueToken(JwtKeyMaterial keys, UserContext userContext, String tokenType,
+                              Instant issuedAt, Instant expiration, String tokenId, String sessionId) {
+        Map<String, Object> claims = new LinkedHashMap<>(24);
+        claims.put(Claims.ID, tokenId);
+        claims.put(Claims.ISSUER, jwtProperties.getIssuer());
+        claims.put(Claims.AUDIENCE, jwtProperties.getAudience());
+        if (userContext.getUserId() != null) {
+            claims.put(Claims.SUBJECT, userContext.getUserId());
+        }
+        claims.put(Claims.ISSUED_AT, issuedAt.getEpochSecond());
+        claims.put(Claims.EXPIRATION, expiration.getEpochSecond());
+        
+        if (jwtProperties.getClaims().getProfile() == JwtProperties.ClaimProfile.COMPACT) {
+            compactClaimCodec().encode(claims, userContext, tokenType, sessionId);
+        } else {
+            putIfPresent(claims, "username", userContext.getUsername());
+            putIfPresent(claims, "email", userContext.getEmail());
+            putIfPresent(claims, "roles", userContext.getRoles());
+            putIfPresent(claims, "permissions", userContext.getPermissions());
+            putIfPresent(claims, "tenantId", userContext.getTenantId());
+            putIfPresent(claims, "tokenType", tokenType);
+            putIfPresent(claims, "sessionId", sessionId);
+        }
         
+        HmacTokenSigner hmacSigner = keys.getHmacSigner();
+        if (hmacSigner != null) {
+            return hmacSigner.sign(claims);
+        }
         return Jwts.builder()
-                .setId(UUID.randomUUID().toString())
-                .setIssuer(jwtProperties.getIssuer())
-                .setAudience(jwtProperties.getAudience())
-                .setSubject(userContext.getUserId())
-                .setIssuedAt(Date.from(now.atZone(ZoneId.systemDefault()).toInstant()))
-                .setExpiration(Date.from(expiration.atZone(ZoneId.systemDefault()).toInstant()))
-                .claim("username", userContext.getUsername())
-                .claim("email", userContext.getEmail())
-                .claim("roles", userContext.getRoles())
-                .claim("permissions", userContext.getPermissions())
-                .claim("tenantId", userContext.getTenantId())
-                .claim("tokenType", tokenType)
-                .claim("sessionId", UUID.randomUUID().toString())
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setHeaderParam(JwsHeader.KEY_ID, keys.getSigningKeyId())
+                .addClaims(claims)
+                .signWith(keys.getSigningKey(), keys.getAlgorithm())
                 .compact();
     }
     
+    private static void putIfPresent(Map<String, Object> claims, String name, Object value) {
+        if (value != null) {
+            claims.put(name, value);
+        }
+    }
+    
     /**
-     * Map JWT claims to internal claims structure
+     * Map JWT claims to internal claims structure; claims beyond the subject and timestamps are converted on first access
      */
-    @SuppressWarnings("unchecked")
     private JwtClaims mapClaimsToJwtClaims(Claims claims) {
-        LocalDateTime issuedAt = claims.getIssuedAt() != null ? 
-                LocalDateTime.ofInstant(claims.getIssuedAt().toInstant(), ZoneId.systemDefault()) : null;
-        LocalDateTime expiresAt = claims.getExpiration() != null ?
-                LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()) : null;
-        
-        return JwtClaims.builder()
-                .userId(claims.getSubject())
-                .username((String) claims.get("username"))
-                .email((String) claims.get("email"))
-                .roles((Set<String>) claims.get("roles"))
-                .permissions((Set<String>) claims.get("permissions"))
-                .tenantId((String) claims.get("tenantId"))
-                .tokenType((String) claims.get("tokenType"))
-                .sessionId((String) claims.get("sessionId"))
-                .issuedAt(issuedAt)
-                .expiresAt(expiresAt)
-                .build();
+        return new LazyJwtClaims(claims, CompactClaimCodec.isCompact(claims) ? compactClaimCodec() : null);
+    }
+    
+    /**
+     * Get the compact claim codec for the configured dictionary version
+     */
+    private CompactClaimCodec compactClaimCodec() {
+        CompactClaimCodec codec = claimCodec;
+        if (codec == null || codec.getVersion() != jwtProperties.getClaims().getDictionaryVersion()) {
+            codec = new CompactClaimCodec(jwtProperties.getClaims());
+            claimCodec = codec;
+        }
+        return codec;
+    }
+    
+    /**
+     * Rebuild the signing key and parser from the current {@link JwtProperties}.
+     * Tokens signed with the previous secret stop validating once this returns.
+     */
+    public void reloadKeys() {
+        rebuildKeyMaterial(keyMaterial.get());
     }
     
     /**
-     * Get signing key for JWT tokens
+     * Get the key material for the current properties, rebuilding it after a secret rotation
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+    private JwtKeyMaterial currentKeyMaterial() {
+        JwtKeyMaterial current = keyMaterial.get();
+        if (current != null && current.matches(jwtProperties)) {
+            return current;
+        }
+        return rebuildKeyMaterial(current);
+    }
+    
+    /**
+     * Atomically replace the key material; concurrent callers converge on a single new version
+     */
+    private JwtKeyMaterial rebuildKeyMaterial(JwtKeyMaterial expected) {
+        int version = expected != null ? expected.getVersion() + 1 : 1;
+        JwtKeyMaterial rebuilt = new JwtKeyMaterial(version, jwtProperties);
+        if (keyMaterial.compareAndSet(expected, rebuilt)) {
+            // Tokens verified under the previous key must be checked again
+            verificationCache.clear();
+            log.info("JWT key material loaded (version {})", version);
+            return rebuilt;
+        }
+        return keyMaterial.get();
     }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.bit.velocity.common.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of verified tokens, keyed by a cheap digest of the token signature.
+ * Entries expire with the token's own {@code exp} claim and are evicted when the cache is full.
+ *
+ * Cached results are shared between requests and must be treated as read-only.
+ * Configured under {@code bitvelocity.security.jwt.cache.*}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JwtVerificationCache {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final JwtProperties jwtProperties;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Get the cached verification result for a token, or null if absent, expired
+     * or verified under a different key version
+     */
+    public JwtVerificationResult get(String token, int keyVersion) {
+        if (!jwtProperties.getCache().isEnabled()) {
+            return null;
+        }
+
+        Long digest = digest(token);
+        Entry entry = entries.get(digest);
+        if (entry == null || entry.keyVersion() != keyVersion || !entry.token().equals(token)) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+            if (entries.remove(digest, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.result();
+    }
+
+    /**
+     * Cache a successful, non-expired verification result
+     */
+    public void put(String token, int keyVersion, JwtVerificationResult result) {
+        if (!jwtProperties.getCache().isEnabled() || result.isExpired()) {
+            return;
+        }
+
+        Long expiresAt = result.getSharedClaims().getExpiresAtEpochSecond();
+        if (expiresAt == null) {
+            return;
+        }
+        long expiresAtMillis = expiresAt * 1000;
+
+        if (entries.size() >= jwtProperties.getCache().getMaxSize()) {
+            evict();
+        }
+        entries.put(digest(token), new Entry(token, keyVersion, result, expiresAtMillis));
+    }
+
+    /**
+     * Drop all cached entries, e.g. after the signing key changed
+     */
+    public void clear() {
+        int size = entries.size();
+        entries.clear();
+        evictions.add(size);
+    }
+
+    /**
+     * Number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of lookups that required a full verification
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of entries removed due to expiry, size limit or key changes
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Current number of cached tokens
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Remove expired entries first, then arbitrary entries until the cache is back under ~90% of its limit.
+     * Only one thread evicts at a time; others proceed and may briefly overshoot the limit.
+     */
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int target = jwtProperties.getCache().getMaxSize() * 9 / 10;
+
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAtMillis() <= now) {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+
+            iterator = entries.values().iterator();
+            while (entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+            log.debug("JWT verification cache evicted down to {} entries", entries.size());
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the signature segment, which is already high-entropy.
+     * Collisions are harmless because lookups also compare the full token.
+     */
+    private static Long digest(String token) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = token.lastIndexOf('.') + 1; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private record Entry(String token, int keyVersion, JwtVerificationResult result, long expiresAtMillis) {
+    }
+}
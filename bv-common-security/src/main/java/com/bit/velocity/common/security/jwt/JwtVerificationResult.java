@@ -0,0 +1,47 @@
+package com.bit.velocity.common.security.jwt;
+
+import com.bit.velocity.common.security.UserContext;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+
+/**
+ * Immutable outcome of a single JWT verification.
+ * Carries the parsed claims, the expiry status and a user context built on first access,
+ * so callers never need to parse the same token twice. Results are shared through the verification
+ * cache, so every caller gets its own copy of the claims and of the user context.
+ */
+@Value
+public class JwtVerificationResult {
+
+    /**
+     * Claims of the verified token, shared by every holder of this result
+     */
+    @Getter(AccessLevel.PACKAGE)
+    JwtClaims sharedClaims;
+
+    /**
+     * Whether the token signature was valid but the token is past its expiration
+     */
+    boolean expired;
+
+    /**
+     * User context built from the claims once; its role and permission bitsets are reused by every copy
+     */
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    UserContext sharedUserContext = sharedClaims.toUserContext();
+
+    /**
+     * Claims of the verified token, owned by the caller
+     */
+    public JwtClaims getClaims() {
+        return sharedClaims.copy();
+    }
+
+    /**
+     * User context built from the claims, owned by the caller
+     */
+    public UserContext getUserContext() {
+        return getSharedUserContext().copy();
+    }
+}
@@ -0,0 +1,207 @@
+package com.bit.velocity.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * {@link JwtClaims} view over a verified token payload.
+ *
+ * Token id, subject and timestamps are read when the view is created, since every verification
+ * needs them; the remaining claims are converted on first access. Everything that can be malformed
+ * is checked up front, so a view that was created never fails later: claim types, the dictionary
+ * version, and compact role and permission bitmaps, which are decoded right away.
+ *
+ * Views are shared through the verification cache: concurrent first accesses may convert a claim
+ * twice, but each converted value is immutable and published through a volatile write, so readers
+ * always see it whole.
+ */
+final class LazyJwtClaims extends JwtClaims {
+
+    private static final List<String> STANDARD_STRING_CLAIMS =
+            List.of("username", "email", "tenantId", "tokenType", "sessionId");
+
+    private static final AtomicIntegerFieldUpdater<LazyJwtClaims> LOADED =
+            AtomicIntegerFieldUpdater.newUpdater(LazyJwtClaims.class, "loaded");
+
+    private static final int USERNAME = 1;
+    private static final int EMAIL = 1 << 1;
+    private static final int ROLES = 1 << 2;
+    private static final int PERMISSIONS = 1 << 3;
+    private static final int TENANT_ID = 1 << 4;
+    private static final int TOKEN_TYPE = 1 << 5;
+    private static final int SESSION_ID = 1 << 6;
+
+    private final Claims payload;
+    private final CompactClaimCodec codec;
+    private volatile int loaded;
+
+    /**
+     * @param codec codec of a compact payload, or null for the standard profile
+     * @throws IllegalArgumentException if a claim is malformed
+     */
+    LazyJwtClaims(Claims payload, CompactClaimCodec codec) {
+        this.payload = payload;
+        this.codec = codec;
+        requireStrings(payload, codec != null ? CompactClaimCodec.STRING_CLAIMS : STANDARD_STRING_CLAIMS);
+        if (codec != null) {
+            codec.checkVersion(payload);
+            try {
+                setRoles(codec.roles(payload));
+                setPermissions(codec.permissions(payload));
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("Malformed role or permission claim", e);
+            }
+        }
+        setTokenId(payload.getId());
+        setUserId(payload.getSubject());
+        setIssuedAtEpochSecond(epochSecond(payload.get(Claims.ISSUED_AT)));
+        setExpiresAtEpochSecond(epochSecond(payload.get(Claims.EXPIRATION)));
+    }
+
+    @Override
+    public String getUsername() {
+        if (!isLoaded(USERNAME)) {
+            setUsername(codec != null ? codec.username(payload) : (String) payload.get("username"));
+        }
+        return super.getUsername();
+    }
+
+    @Override
+    public void setUsername(String username) {
+        super.setUsername(username);
+        markLoaded(USERNAME);
+    }
+
+    @Override
+    public String getEmail() {
+        if (!isLoaded(EMAIL)) {
+            setEmail(codec != null ? codec.email(payload) : (String) payload.get("email"));
+        }
+        return super.getEmail();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        super.setEmail(email);
+        markLoaded(EMAIL);
+    }
+
+    @Override
+    public Set<String> getRoles() {
+        if (!isLoaded(ROLES)) {
+            setRoles(codec != null ? codec.roles(payload) : toStringSet(payload.get("roles")));
+        }
+        return super.getRoles();
+    }
+
+    @Override
+    public void setRoles(Set<String> roles) {
+        super.setRoles(roles);
+        markLoaded(ROLES);
+    }
+
+    @Override
+    public Set<String> getPermissions() {
+        if (!isLoaded(PERMISSIONS)) {
+            setPermissions(codec != null ? codec.permissions(payload) : toStringSet(payload.get("permissions")));
+        }
+        return super.getPermissions();
+    }
+
+    @Override
+    public void setPermissions(Set<String> permissions) {
+        super.setPermissions(permissions);
+        markLoaded(PERMISSIONS);
+    }
+
+    @Override
+    public String getTenantId() {
+        if (!isLoaded(TENANT_ID)) {
+            setTenantId(codec != null ? codec.tenantId(payload) : (String) payload.get("tenantId"));
+        }
+        return super.getTenantId();
+    }
+
+    @Override
+    public void setTenantId(String tenantId) {
+        super.setTenantId(tenantId);
+        markLoaded(TENANT_ID);
+    }
+
+    @Override
+    public String getTokenType() {
+        if (!isLoaded(TOKEN_TYPE)) {
+            setTokenType(codec != null ? codec.tokenType(payload) : (String) payload.get("tokenType"));
+        }
+        return super.getTokenType();
+    }
+
+    @Override
+    public void setTokenType(String tokenType) {
+        super.setTokenType(tokenType);
+        markLoaded(TOKEN_TYPE);
+    }
+
+    @Override
+    public String getSessionId() {
+        if (!isLoaded(SESSION_ID)) {
+            setSessionId(codec != null ? codec.sessionId(payload) : (String) payload.get("sessionId"));
+        }
+        return super.getSessionId();
+    }
+
+    @Override
+    public void setSessionId(String sessionId) {
+        super.setSessionId(sessionId);
+        markLoaded(SESSION_ID);
+    }
+
+    private boolean isLoaded(int field) {
+        return (loaded & field) != 0;
+    }
+
+    private void markLoaded(int field) {
+        int current;
+        do {
+            current = loaded;
+        } while ((current & field) == 0 && !LOADED.compareAndSet(this, current, current | field));
+    }
+
+    private static void requireStrings(Claims payload, List<String> names) {
+        for (String name : names) {
+            Object value = payload.get(name);
+            if (value != null && !(value instanceof String)) {
+                throw new IllegalArgumentException("Claim '" + name + "' is not a string");
+            }
+        }
+    }
+
+    private static Long epochSecond(Object claim) {
+        if (claim instanceof Number number) {
+            return number.longValue();
+        }
+        return claim instanceof Date date ? date.getTime() / 1000 : null;
+    }
+
+    /**
+     * Convert a deserialized JSON array claim into a set of strings.
+     * The JSON parser produces lists, so a plain cast to {@link Set} would fail.
+     */
+    private static Set<String> toStringSet(Object claim) {
+        if (!(claim instanceof Collection<?> values)) {
+            return Collections.emptySet();
+        }
+        Set<String> result = new HashSet<>(values.size() * 2);
+        for (Object value : values) {
+            result.add(String.valueOf(value));
+        }
+        return Collections.unmodifiableSet(result);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bit.velocity.common.security.jwt;
+
+import lombok.Value;
+
+/**
+ * Access and refresh token issued together for one session
+ */
+@Value
+public class TokenPair {
+
+    /**
+     * Short-lived access token
+     */
+    String accessToken;
+
+    /**
+     * Refresh token bound to the same session
+     */
+    String refreshToken;
+
+    /**
+     * Session shared by both tokens
+     */
+    String sessionId;
+}
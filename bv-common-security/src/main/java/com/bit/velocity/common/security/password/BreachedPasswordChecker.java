@@ -0,0 +1,60 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Checks passwords against the breached password dictionary configured under
+ * {@code security.password.breached.*}. The memory-mapped index is rebuilt at startup
+ * whenever it is missing or older than the word list.
+ */
+@Component
+@Slf4j
+public class BreachedPasswordChecker {
+
+    private final BreachedPasswordIndex index;
+
+    public BreachedPasswordChecker(PasswordProperties passwordProperties) {
+        PasswordProperties.Breached breached = passwordProperties.getBreached();
+        this.index = breached.isEnabled() ? loadIndex(breached) : null;
+    }
+
+    /**
+     * Check whether the password appears in the breached password dictionary, ignoring case
+     */
+    public boolean isBreached(String password) {
+        return index != null && password != null && index.contains(password);
+    }
+
+    private static BreachedPasswordIndex loadIndex(PasswordProperties.Breached breached) {
+        Path wordList = breached.getWordList() != null ? Paths.get(breached.getWordList()) : null;
+        Path indexFile = breached.getIndexFile() != null
+                ? Paths.get(breached.getIndexFile())
+                : wordList != null ? Paths.get(breached.getWordList() + ".idx") : null;
+        if (indexFile == null) {
+            throw new IllegalStateException("security.password.breached requires word-list or index-file");
+        }
+
+        try {
+            if (wordList != null && isStale(indexFile, wordList)) {
+                BreachedPasswordIndexBuilder.build(wordList, indexFile, breached.getFalsePositiveRate());
+            }
+            BreachedPasswordIndex index = BreachedPasswordIndex.open(indexFile);
+            log.info("Loaded breached password index {} with {} entries", indexFile, index.size());
+            return index;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load breached password index " + indexFile, e);
+        }
+    }
+
+    private static boolean isStale(Path indexFile, Path wordList) throws IOException {
+        return !Files.exists(indexFile)
+                || Files.getLastModifiedTime(indexFile).compareTo(Files.getLastModifiedTime(wordList)) < 0;
+    }
+}
@@ -0,0 +1,154 @@
+package com.bit.velocity.common.security.password;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-only, memory-mapped index of breached passwords.
+ *
+ * The file holds a Bloom filter followed by the sorted 64-bit hashes of every password.
+ * A lookup probes the Bloom filter first, which rejects almost all safe passwords in a few
+ * memory reads; possible matches are confirmed by a binary search over the sorted hashes.
+ * Both regions live in the page cache rather than on the heap, so heap usage does not grow
+ * with the size of the list. Built by {@link BreachedPasswordIndexBuilder}.
+ *
+ * File layout (big-endian): magic, format version, entry count, Bloom hash count,
+ * Bloom bit count (a power of two), Bloom words, sorted hashes.
+ */
+public final class BreachedPasswordIndex {
+
+    static final int MAGIC = 0x42564250; // "BVBP"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 8;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final MappedByteBuffer bloom;
+    private final MappedByteBuffer hashes;
+    private final long bloomMask;
+    private final int bloomHashes;
+    private final int entryCount;
+
+    private BreachedPasswordIndex(MappedByteBuffer bloom, MappedByteBuffer hashes,
+                                  long bloomBits, int bloomHashes, int entryCount) {
+        this.bloom = bloom;
+        this.hashes = hashes;
+        this.bloomMask = bloomBits - 1;
+        this.bloomHashes = bloomHashes;
+        this.entryCount = entryCount;
+    }
+
+    /**
+     * Map an index file built by {@link BreachedPasswordIndexBuilder}
+     */
+    public static BreachedPasswordIndex open(Path indexFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // read the complete header
+            }
+            header.flip();
+
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException("Not a breached password index: " + indexFile);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported breached password index version " + version);
+            }
+            long entries = header.getLong();
+            int bloomHashes = header.getInt();
+            long bloomBits = header.getLong();
+
+            long bloomBytes = bloomBits / 8;
+            long hashBytes = entries * Long.BYTES;
+            if (bloomBytes > Integer.MAX_VALUE || hashBytes > Integer.MAX_VALUE) {
+                throw new IOException("Breached password index too large to map: " + indexFile);
+            }
+
+            // The mappings stay valid after the channel is closed
+            MappedByteBuffer bloom = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, bloomBytes);
+            MappedByteBuffer hashes = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES + bloomBytes, hashBytes);
+            return new BreachedPasswordIndex(bloom, hashes, bloomBits, bloomHashes, (int) entries);
+        }
+    }
+
+    /**
+     * Check whether the password, compared case-insensitively, is in the index
+     */
+    public boolean contains(CharSequence password) {
+        long hash = hash(password);
+        return mightContain(hash) && containsHash(hash);
+    }
+
+    /**
+     * Number of distinct passwords in the index
+     */
+    public int size() {
+        return entryCount;
+    }
+
+    private boolean mightContain(long hash) {
+        long step = secondaryHash(hash);
+        long probe = hash;
+        for (int i = 0; i < bloomHashes; i++) {
+            long bit = probe & bloomMask;
+            long word = bloom.getLong((int) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+            probe += step;
+        }
+        return true;
+    }
+
+    private boolean containsHash(long hash) {
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = hashes.getLong(mid * Long.BYTES);
+            if (value < hash) {
+                low = mid + 1;
+            } else if (value > hash) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Case-insensitive 64-bit hash: FNV-1a over lowercased UTF-16 chars with a murmur3 finalizer
+     */
+    static long hash(CharSequence password) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < password.length(); i++) {
+            hash ^= Character.toLowerCase(password.charAt(i));
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Independent odd step for double hashing into the Bloom filter
+     */
+    static long secondaryHash(long hash) {
+        return mix(hash ^ 0x9e3779b97f4a7c15L) | 1L;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,132 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Builds a {@link BreachedPasswordIndex} file from a plain-text word list (one password per line).
+ * Only the build holds the hashes on the heap (8 bytes per password); lookups afterwards are served
+ * from the memory-mapped file.
+ */
+@Slf4j
+public final class BreachedPasswordIndexBuilder {
+
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private BreachedPasswordIndexBuilder() {
+    }
+
+    /**
+     * Hash, sort and de-duplicate the word list, then write the Bloom filter and hash table to {@code indexFile}.
+     * The file is written next to the target and moved into place atomically.
+     */
+    public static void build(Path wordList, Path indexFile, double falsePositiveRate) throws IOException {
+        long start = System.nanoTime();
+        long[] hashes = readHashes(wordList);
+        int entries = hashes.length;
+
+        long bloomBits = bloomBits(entries, falsePositiveRate);
+        int bloomHashes = Math.max(1, (int) Math.round((double) bloomBits / Math.max(entries, 1) * Math.log(2)));
+        long[] bloom = new long[(int) (bloomBits >>> 6)];
+        long mask = bloomBits - 1;
+        for (long hash : hashes) {
+            long step = BreachedPasswordIndex.secondaryHash(hash);
+            long probe = hash;
+            for (int i = 0; i < bloomHashes; i++) {
+                long bit = probe & mask;
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+                probe += step;
+            }
+        }
+
+        Path parent = indexFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES);
+            buffer.putInt(BreachedPasswordIndex.MAGIC)
+                    .putInt(BreachedPasswordIndex.FORMAT_VERSION)
+                    .putLong(entries)
+                    .putInt(bloomHashes)
+                    .putLong(bloomBits);
+            writeLongs(channel, buffer, bloom);
+            writeLongs(channel, buffer, hashes);
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        log.info("Built breached password index {} with {} entries ({} Bloom bits, {} hashes) in {} ms",
+                indexFile, entries, bloomBits, bloomHashes, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Read the word list into a sorted array of distinct hashes; undecodable bytes are replaced, not rejected
+     */
+    private static long[] readHashes(Path wordList) throws IOException {
+        long[] hashes = new long[1 << 16];
+        int count = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(wordList),
+                StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE)
+                        .onUnmappableCharacter(CodingErrorAction.REPLACE)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                if (count == hashes.length) {
+                    hashes = Arrays.copyOf(hashes, count * 2);
+                }
+                hashes[count++] = BreachedPasswordIndex.hash(line);
+            }
+        }
+
+        Arrays.sort(hashes, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || hashes[i] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, distinct);
+    }
+
+    /**
+     * Optimal Bloom filter size rounded up to a power of two, at least one word
+     */
+    private static long bloomBits(int entries, double falsePositiveRate) {
+        double optimal = -Math.max(entries, 1) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = Long.highestOneBit(Math.max(64L, (long) Math.ceil(optimal)) - 1) << 1;
+        return Math.max(64L, bits);
+    }
+
+    private static void writeLongs(FileChannel channel, ByteBuffer buffer, long[] values) throws IOException {
+        for (long value : values) {
+            if (buffer.remaining() < Long.BYTES) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            buffer.putLong(value);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Password complexity validator driven by the {@code security.password.*} policy.
+ * Checks character classes and sequential runs in a single scan of the password,
+ * without regular expressions or intermediate strings.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordComplexityValidator {
+
+    private static final String SPECIAL_CHARS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+    private static final boolean[] SPECIAL_CHAR_TABLE = new boolean[128];
+
+    private static final String[] COMMON_PASSWORDS = {
+            "password", "123456", "password123", "admin", "qwerty",
+            "letmein", "welcome", "monkey", "dragon", "password1",
+            "123456789", "football", "iloveyou", "admin123", "welcome123"
+    };
+
+    /**
+     * Length of an ascending run (e.g. abc, 123) that counts as sequential
+     */
+    private static final int SEQUENCE_LENGTH = 3;
+
+    static {
+        for (int i = 0; i < SPECIAL_CHARS.length(); i++) {
+            SPECIAL_CHAR_TABLE[SPECIAL_CHARS.charAt(i)] = true;
+        }
+    }
+
+    private final PasswordProperties passwordProperties;
+    private final BreachedPasswordChecker breachedPasswordChecker;
+
+    /**
+     * Validate password against the configured complexity policy
+     */
+    public PasswordValidationResult validate(String password) {
+        PasswordValidationResult result = new PasswordValidationResult();
+
+        if (password == null) {
+            result.addError("Password cannot be null");
+            return result;
+        }
+
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        boolean hasDigit = false;
+        boolean hasSpecialChar = false;
+        boolean sequential = false;
+        int previousIndex = -1;
+        int run = 0;
+
+        int length = password.length();
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+
+            if (c >= 'A' && c <= 'Z') {
+                hasUppercase = true;
+            } else if (c >= 'a' && c <= 'z') {
+                hasLowercase = true;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c < SPECIAL_CHAR_TABLE.length && SPECIAL_CHAR_TABLE[c]) {
+                hasSpecialChar = true;
+            }
+
+            if (!sequential) {
+                int index = sequenceIndex(Character.toLowerCase(c));
+                run = index >= 0 && previousIndex >= 0 && index == previousIndex + 1 ? run + 1 : 1;
+                sequential = index >= 0 && run >= SEQUENCE_LENGTH;
+                previousIndex = index;
+            }
+        }
+
+        // Length validation
+        if (length < passwordProperties.getMinLength()) {
+            result.addError("Password must be at least " + passwordProperties.getMinLength() + " characters long");
+        }
+
+        if (length > passwordProperties.getMaxLength()) {
+            result.addError("Password must not exceed " + passwordProperties.getMaxLength() + " characters");
+        }
+
+        // Character type requirements
+        if (passwordProperties.isRequireUppercase() && !hasUppercase) {
+            result.addError("Password must contain at least one uppercase letter");
+        }
+
+        if (passwordProperties.isRequireLowercase() && !hasLowercase) {
+            result.addError("Password must contain at least one lowercase letter");
+        }
+
+        if (passwordProperties.isRequireDigits() && !hasDigit) {
+            result.addError("Password must contain at least one digit");
+        }
+
+        if (passwordProperties.isRequireSpecialChars() && !hasSpecialChar) {
+            result.addError("Password must contain at least one special character");
+        }
+
+        // Common password checks
+        if (isCommonPassword(password)) {
+            result.addError("Password is too common, please choose a different one");
+        } else if (breachedPasswordChecker.isBreached(password)) {
+            result.addError("Password has appeared in a known data breach, please choose a different one");
+        }
+
+        // Sequential character checks
+        if (sequential) {
+            result.addError("Password should not contain sequential characters (e.g., abc, 123)");
+        }
+
+        return result;
+    }
+
+    /**
+     * Check if password is in common password list, ignoring case
+     */
+    private boolean isCommonPassword(String password) {
+        for (String common : COMMON_PASSWORDS) {
+            if (common.length() == password.length() && common.equalsIgnoreCase(password)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Position of a lowercase character in the sequence a-z followed by 0-9, or -1
+     */
+    private static int sequenceIndex(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 26 + (c - '0');
+        }
+        return -1;
+    }
+}
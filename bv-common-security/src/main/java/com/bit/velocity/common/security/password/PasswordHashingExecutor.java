@@ -0,0 +1,72 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, bounded executor for CPU-heavy password hashing.
+ * Sized to the CPU count by default so hashing never oversubscribes the box,
+ * and rejects new work immediately once its queue is full instead of piling up latency.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHashingExecutor(PasswordProperties passwordProperties) {
+        PasswordProperties.Hashing hashing = passwordProperties.getHashing();
+        int threads = hashing.getThreads() > 0 ? hashing.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashing.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bv-password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("Password hashing executor started with {} threads and queue capacity {}",
+                threads, hashing.getQueueCapacity());
+    }
+
+    /**
+     * Run a hashing task on the dedicated executor.
+     * When saturated, the returned future is already completed with a {@link RejectedExecutionException}.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing executor saturated, rejecting task");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Number of hashing tasks waiting for a thread
+     */
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
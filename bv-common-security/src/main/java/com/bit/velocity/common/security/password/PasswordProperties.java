@@ -0,0 +1,149 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Password policy and hashing configuration properties.
+ * Bound from the {@code security.password} block of application-security.yml.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordProperties {
+
+    /**
+     * Minimum password length
+     */
+    private int minLength = 8;
+
+    /**
+     * Maximum password length
+     */
+    private int maxLength = 128;
+
+    /**
+     * Whether at least one uppercase letter is required
+     */
+    private boolean requireUppercase = true;
+
+    /**
+     * Whether at least one lowercase letter is required
+     */
+    private boolean requireLowercase = true;
+
+    /**
+     * Whether at least one digit is required
+     */
+    private boolean requireDigits = true;
+
+    /**
+     * Whether at least one special character is required
+     */
+    private boolean requireSpecialChars = true;
+
+    /**
+     * Breached password dictionary settings
+     */
+    private Breached breached = new Breached();
+
+    /**
+     * Hash algorithm and cost settings
+     */
+    private Encoding encoding = new Encoding();
+
+    /**
+     * Dedicated executor settings for asynchronous hashing
+     */
+    private Hashing hashing = new Hashing();
+
+    /**
+     * Settings for checking new passwords against a large list of known-breached passwords
+     */
+    @Data
+    public static class Breached {
+
+        /**
+         * Whether new passwords are checked against the breached password dictionary
+         */
+        private boolean enabled = false;
+
+        /**
+         * Plain-text word list, one password per line
+         */
+        private String wordList;
+
+        /**
+         * Memory-mapped index built from the word list; defaults to the word list path with an .idx suffix
+         */
+        private String indexFile;
+
+        /**
+         * Bloom filter false positive rate; false positives are confirmed against the exact hash table
+         */
+        private double falsePositiveRate = 0.001;
+    }
+
+    /**
+     * Settings for the algorithm used to create new hashes.
+     * Existing hashes of any supported algorithm keep verifying and are upgraded on the next successful login.
+     */
+    @Data
+    public static class Encoding {
+
+        /**
+         * Algorithm for new hashes: bcrypt, pbkdf2, argon2 or scrypt (the last two need BouncyCastle)
+         */
+        private String algorithm = "bcrypt";
+
+        /**
+         * BCrypt cost factor
+         */
+        private int bcryptStrength = 12;
+
+        /**
+         * BCrypt cost per account type, e.g. a lower cost for low-risk service credentials. Hashes of
+         * these accounts use BCrypt at this cost and are only rehashed when below it.
+         */
+        private Map<String, Integer> accountTypeBcryptStrengths = new HashMap<>();
+
+        /**
+         * Pick the BCrypt cost at startup so one hash takes about target-latency on this hardware.
+         * Nodes on different hardware pick different costs, so calibrate once and pin the logged
+         * cost in {@code bcrypt-strength} for a cluster.
+         */
+        private boolean calibrate = false;
+
+        /**
+         * Target duration of a single hash when calibrating
+         */
+        private Duration targetLatency = Duration.ofMillis(250);
+
+        /**
+         * Lowest BCrypt cost calibration may choose
+         */
+        private int minBcryptStrength = 10;
+    }
+
+    /**
+     * Settings for the executor that runs password hashing off the request threads
+     */
+    @Data
+    public static class Hashing {
+
+        /**
+         * Number of hashing threads; 0 means one per available CPU
+         */
+        private int threads = 0;
+
+        /**
+         * Maximum number of hashing tasks waiting for a thread before new ones are rejected
+         */
+        private int queueCapacity = 64;
+    }
+}
@@ -6,7 +6,9 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Password security service providing hashing, validation, and complexity checking.
@@ -14,29 +16,30 @@ import java.util.regex.Pattern;
  * 
  * Features:
  * - BCrypt password hashing with salt
+ * - Transparent rehashing of outdated hashes on successful verification
  * - Password complexity validation
  * - Secure password comparison
  * - Configurable strength requirements
+ * - Asynchronous hashing on a bounded, CPU-sized executor
+ * - Per account type BCrypt cost ({@code security.password.encoding.account-type-bcrypt-strengths}),
+ *   so deliberately cheaper hashes of low-risk accounts are not rehashed to the global cost
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PasswordSecurityService {
     
-    private final PasswordEncoder passwordEncoder;
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
     
-    // Password complexity patterns
-    private static final Pattern UPPERCASE_PATTERN = Pattern.compile(".*[A-Z].*");
-    private static final Pattern LOWERCASE_PATTERN = Pattern.compile(".*[a-z].*");
-    private static final Pattern DIGIT_PATTERN = Pattern.compile(".*\\d.*");
-    private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>\\/?].*");
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
+    private final PasswordComplexityValidator complexityValidator;
+    private final PasswordProperties passwordProperties;
     
-    // Default configuration
-    private static final int MIN_PASSWORD_LENGTH = 8;
-    private static final int MAX_PASSWORD_LENGTH = 128;
+    private final Map<Integer, BCryptPasswordEncoder> bcryptByStrength = new ConcurrentHashMap<>();
     
     /**
-     * Hash password using BCrypt with salt
+     * Hash password with the configured algorithm (BCrypt by default) and salt
      */
     public String hashPassword(String plainPassword) {
         if (plainPassword == null || plainPassword.trim().isEmpty()) {
@@ -53,6 +56,20 @@ public class PasswordSecurityService {
         }
     }
     
+    /**
+     * Hash password for an account of the given type, at its configured BCrypt cost if it has one
+     */
+    public String hashPassword(String plainPassword, String accountType) {
+        BCryptPasswordEncoder bcrypt = accountTypeEncoder(accountType);
+        if (bcrypt == null) {
+            return hashPassword(plainPassword);
+        }
+        if (plainPassword == null || plainPassword.trim().isEmpty()) {
+            throw new IllegalArgumentException("Password cannot be null or empty");
+        }
+        return BCRYPT_PREFIX + bcrypt.encode(plainPassword);
+    }
+    
     /**
      * Verify password against hash
      */
@@ -73,61 +90,115 @@ public class PasswordSecurityService {
     }
     
     /**
-     * Validate password complexity
+     * Check whether a stored hash uses an outdated algorithm or cost and should be replaced
      */
-    public PasswordValidationResult validatePasswordComplexity(String password) {
-        PasswordValidationResult result = new PasswordValidationResult();
-        
-        if (password == null) {
-            result.addError("Password cannot be null");
-            return result;
-        }
-        
-        // Length validation
-        if (password.length() < MIN_PASSWORD_LENGTH) {
-            result.addError("Password must be at least " + MIN_PASSWORD_LENGTH + " characters long");
+    public boolean needsRehash(String hashedPassword) {
+        if (hashedPassword == null) {
+            return false;
         }
         
-        if (password.length() > MAX_PASSWORD_LENGTH) {
-            result.addError("Password must not exceed " + MAX_PASSWORD_LENGTH + " characters");
+        try {
+            return passwordEncoder.upgradeEncoding(hashedPassword);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unable to inspect password hash: {}", e.getMessage());
+            return false;
         }
-        
-        // Character type requirements
-        if (!UPPERCASE_PATTERN.matcher(password).matches()) {
-            result.addError("Password must contain at least one uppercase letter");
+    }
+    
+    /**
+     * Check whether the stored hash of an account of the given type should be replaced. Account types
+     * with a configured BCrypt cost only need a rehash for another algorithm or a lower cost.
+     */
+    public boolean needsRehash(String hashedPassword, String accountType) {
+        BCryptPasswordEncoder bcrypt = accountTypeEncoder(accountType);
+        if (bcrypt == null) {
+            return needsRehash(hashedPassword);
         }
-        
-        if (!LOWERCASE_PATTERN.matcher(password).matches()) {
-            result.addError("Password must contain at least one lowercase letter");
+        if (hashedPassword == null) {
+            return false;
         }
         
-        if (!DIGIT_PATTERN.matcher(password).matches()) {
-            result.addError("Password must contain at least one digit");
+        String hash = hashedPassword.startsWith(BCRYPT_PREFIX) ? hashedPassword.substring(BCRYPT_PREFIX.length()) : hashedPassword;
+        if (!hash.startsWith("$2")) {
+            return true;
         }
-        
-        if (!SPECIAL_CHAR_PATTERN.matcher(password).matches()) {
-            result.addError("Password must contain at least one special character");
+        try {
+            return bcrypt.upgradeEncoding(hash);
+        } catch (IllegalArgumentException e) {
+            log.warn("Unable to inspect password hash: {}", e.getMessage());
+            return false;
         }
-        
-        // Common password checks
-        if (isCommonPassword(password)) {
-            result.addError("Password is too common, please choose a different one");
+    }
+    
+    /**
+     * Verify password against hash and, on success, rehash it if the stored hash is outdated.
+     * Callers persist {@link PasswordVerificationResult#getUpgradedHash()} when present.
+     */
+    public PasswordVerificationResult verifyPasswordAndUpgrade(String plainPassword, String hashedPassword) {
+        return verifyPasswordAndUpgrade(plainPassword, hashedPassword, null);
+    }
+    
+    /**
+     * Verify password against hash and, on success, rehash it if the stored hash is outdated
+     * for an account of the given type
+     */
+    public PasswordVerificationResult verifyPasswordAndUpgrade(String plainPassword, String hashedPassword, String accountType) {
+        if (!verifyPassword(plainPassword, hashedPassword)) {
+            return PasswordVerificationResult.mismatch();
         }
         
-        // Sequential character checks
-        if (containsSequentialChars(password)) {
-            result.addError("Password should not contain sequential characters (e.g., abc, 123)");
+        if (!needsRehash(hashedPassword, accountType)) {
+            return PasswordVerificationResult.matched(null);
         }
         
-        return result;
+        log.debug("Upgrading outdated password hash");
+        return PasswordVerificationResult.matched(hashPassword(plainPassword, accountType));
+    }
+    
+    /**
+     * Hash password on the dedicated hashing executor, keeping the request thread free.
+     * Completes exceptionally with {@link java.util.concurrent.RejectedExecutionException} when the executor is saturated.
+     */
+    public CompletableFuture<String> hashPasswordAsync(String plainPassword) {
+        return hashingExecutor.submit(() -> hashPassword(plainPassword));
+    }
+    
+    /**
+     * Verify password against hash on the dedicated hashing executor.
+     * Completes exceptionally with {@link java.util.concurrent.RejectedExecutionException} when the executor is saturated.
+     */
+    public CompletableFuture<Boolean> verifyPasswordAsync(String plainPassword, String hashedPassword) {
+        return hashingExecutor.submit(() -> verifyPassword(plainPassword, hashedPassword));
+    }
+    
+    /**
+     * Verify and upgrade password hash on the dedicated hashing executor
+     */
+    public CompletableFuture<PasswordVerificationResult> verifyPasswordAndUpgradeAsync(String plainPassword, String hashedPassword) {
+        return hashingExecutor.submit(() -> verifyPasswordAndUpgrade(plainPassword, hashedPassword));
+    }
+    
+    /**
+     * Verify and upgrade password hash of an account of the given type on the dedicated hashing executor
+     */
+    public CompletableFuture<PasswordVerificationResult> verifyPasswordAndUpgradeAsync(String plainPassword, String hashedPassword,
+                                                                                      String accountType) {
+        return hashingExecutor.submit(() -> verifyPasswordAndUpgrade(plainPassword, hashedPassword, accountType));
+    }
+    
+    /**
+     * Validate password complexity
+     */
+    public PasswordValidationResult validatePasswordComplexity(String password) {
+        return complexityValidator.validate(password);
     }
     
     /**
      * Generate a secure random password
      */
     public String generateSecurePassword(int length) {
-        if (length < MIN_PASSWORD_LENGTH) {
-            length = MIN_PASSWORD_LENGTH;
+        if (length < passwordProperties.getMinLength()) {
+            length = passwordProperties.getMinLength();
         }
         
         String uppercase = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
@@ -154,39 +225,14 @@ public class PasswordSecurityService {
     }
     
     /**
-     * Check if password is in common password list
-     */
-    private boolean isCommonPassword(String password) {
-        // Simplified common password check
-        String[] commonPasswords = {
-                "password", "123456", "password123", "admin", "qwerty",
-                "letmein", "welcome", "monkey", "dragon", "password1",
-                "123456789", "football", "iloveyou", "admin123", "welcome123"
-        };
-        
-        String lowerPassword = password.toLowerCase();
-        for (String common : commonPasswords) {
-            if (lowerPassword.equals(common)) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    /**
-     * Check for sequential characters
+     * BCrypt encoder at the cost configured for the account type, or null if the type has none
      */
-    private boolean containsSequentialChars(String password) {
-        String sequential = "abcdefghijklmnopqrstuvwxyz0123456789";
-        String lowerPassword = password.toLowerCase();
-        
-        for (int i = 0; i <= sequential.length() - 3; i++) {
-            String sequence = sequential.substring(i, i + 3);
-            if (lowerPassword.contains(sequence)) {
-                return true;
-            }
+    private BCryptPasswordEncoder accountTypeEncoder(String accountType) {
+        if (accountType == null) {
+            return null;
         }
-        return false;
+        Integer strength = passwordProperties.getEncoding().getAccountTypeBcryptStrengths().get(accountType);
+        return strength != null ? bcryptByStrength.computeIfAbsent(strength, BCryptPasswordEncoder::new) : null;
     }
     
     /**
@@ -0,0 +1,43 @@
+package com.bit.velocity.common.security.password;
+
+import lombok.Value;
+
+/**
+ * Result of verifying a password, including a replacement hash when the stored one is outdated.
+ */
+@Value
+public class PasswordVerificationResult {
+
+    private static final PasswordVerificationResult MISMATCH = new PasswordVerificationResult(false, null);
+
+    /**
+     * Whether the password matched the stored hash
+     */
+    boolean matches;
+
+    /**
+     * New hash to persist in place of the stored one, or null if no upgrade is needed
+     */
+    String upgradedHash;
+
+    /**
+     * Result for a password that did not match
+     */
+    public static PasswordVerificationResult mismatch() {
+        return MISMATCH;
+    }
+
+    /**
+     * Result for a password that matched, with an optional upgraded hash
+     */
+    public static PasswordVerificationResult matched(String upgradedHash) {
+        return new PasswordVerificationResult(true, upgradedHash);
+    }
+
+    /**
+     * Check whether the caller should store {@link #getUpgradedHash()}
+     */
+    public boolean isUpgraded() {
+        return upgradedHash != null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bit.velocity.common.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects authentication requests over the rate limit with 429 and a {@code Retry-After} header,
+ * before the request reaches any password hashing.
+ * Applies to POST requests matching {@code security.auth.rate-limit.paths}; requests answered
+ * with a status below 400 are successful logins and do not count against the limit.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final RateLimitProperties rateLimitProperties;
+    private final AuthRateLimiter authRateLimiter;
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!rateLimitProperties.isEnabled() || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        for (String pattern : rateLimitProperties.getPaths()) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        // The servlet container's remote address; configure forwarded headers at the container if behind a proxy
+        String ip = request.getRemoteAddr();
+        String username = request.getParameter(rateLimitProperties.getUsernameParameter());
+        long waitNanos = authRateLimiter.tryAcquire(ip, username);
+
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            log.warn("Authentication rate limit exceeded for {} on {}", ip, request.getServletPath());
+            response.setStatus(TOO_MANY_REQUESTS);
+            response.setHeader(RETRY_AFTER_HEADER, Long.toString(retryAfterSeconds));
+            response.setContentType("application/json");
+            response.getWriter().write("{\"error\":\"Too many authentication attempts\",\"retryAfterSeconds\":"
+                    + retryAfterSeconds + "}");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+        if (response.getStatus() < 400) {
+            authRateLimiter.refund(ip, username);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bit.velocity.common.security.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Rate limiter for authentication attempts, with separate buckets per client IP and per username.
+ * An IP spraying many usernames and a username attacked from many IPs are both throttled.
+ *
+ * Only failed attempts count: an attempt takes a token before the password is verified and
+ * successful logins give it back through {@link #refund(String, String)}.
+ * Login services whose username is only available in the request body should call
+ * {@link #tryAcquireUser(String)} themselves before verifying the password and
+ * {@link #refundUser(String)} once it matched.
+ */
+@Component
+public class AuthRateLimiter {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenBucketRateLimiter byIp;
+    private final TokenBucketRateLimiter byUser;
+
+    public AuthRateLimiter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.byIp = new TokenBucketRateLimiter(rateLimitProperties.getMaxAttempts(),
+                rateLimitProperties.getWindowDuration(), rateLimitProperties.getMaxEntries());
+        this.byUser = new TokenBucketRateLimiter(rateLimitProperties.getMaxAttempts(),
+                rateLimitProperties.getWindowDuration(), rateLimitProperties.getMaxEntries());
+    }
+
+    /**
+     * Record an attempt for a username from a client IP. The username is checked first, so an attempt
+     * the username bucket rejects does not spend the IP's token, and vice versa.
+     *
+     * @return 0 if allowed, otherwise the nanoseconds until the next attempt is allowed
+     */
+    public long tryAcquire(String ip, String username) {
+        long waitNanos = tryAcquireUser(username);
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+        waitNanos = tryAcquireIp(ip);
+        if (waitNanos > 0) {
+            refundUser(username);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Give back the tokens of an attempt allowed by {@link #tryAcquire(String, String)} that succeeded
+     */
+    public void refund(String ip, String username) {
+        refundIp(ip);
+        refundUser(username);
+    }
+
+    /**
+     * Record an attempt from a client IP
+     *
+     * @return 0 if allowed, otherwise the nanoseconds until the next attempt is allowed
+     */
+    public long tryAcquireIp(String ip) {
+        return rateLimitProperties.isEnabled() && ip != null ? byIp.tryAcquire(ip) : 0;
+    }
+
+    /**
+     * Record an attempt for a username, compared case-insensitively
+     *
+     * @return 0 if allowed, otherwise the nanoseconds until the next attempt is allowed
+     */
+    public long tryAcquireUser(String username) {
+        return rateLimitProperties.isEnabled() && username != null && !username.isEmpty()
+                ? byUser.tryAcquire(username.toLowerCase())
+                : 0;
+    }
+
+    /**
+     * Give back the token of an attempt from a client IP that succeeded
+     */
+    public void refundIp(String ip) {
+        if (rateLimitProperties.isEnabled() && ip != null) {
+            byIp.refund(ip);
+        }
+    }
+
+    /**
+     * Give back the token of an attempt for a username that succeeded
+     */
+    public void refundUser(String username) {
+        if (rateLimitProperties.isEnabled() && username != null && !username.isEmpty()) {
+            byUser.refund(username.toLowerCase());
+        }
+    }
+}
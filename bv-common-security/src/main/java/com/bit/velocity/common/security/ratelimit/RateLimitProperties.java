@@ -0,0 +1,48 @@
+package com.bit.velocity.common.security.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate limiting properties for authentication endpoints
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.auth.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether authentication attempts are rate limited
+     */
+    private boolean enabled = true;
+
+    /**
+     * Attempts allowed per client IP and per username within one window
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Window in which {@code maxAttempts} attempts are allowed; attempts are refilled evenly across it
+     */
+    private Duration windowDuration = Duration.ofMinutes(15);
+
+    /**
+     * Ant-style request paths that count as authentication attempts
+     */
+    private List<String> paths = List.of("/**/login");
+
+    /**
+     * Request parameter carrying the username, for form or query based logins
+     */
+    private String usernameParameter = "username";
+
+    /**
+     * Maximum number of tracked IPs and usernames each; idle entries are evicted first,
+     * then those closest to refilled; new keys are not limited while no entry can be evicted
+     */
+    private int maxEntries = 100_000;
+}
@@ -0,0 +1,146 @@
+package com.bit.velocity.common.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket per key, implemented as the generic cell rate algorithm (GCRA).
+ *
+ * Each key holds a single {@link AtomicLong}: the theoretical arrival time of the next
+ * attempt. An attempt is allowed when that time is no further ahead than the burst tolerance,
+ * and is then recorded with one CAS. This is equivalent to a bucket of {@code capacity}
+ * tokens refilled one token every {@code window / capacity}, without a refill thread or lock.
+ *
+ * The map is bounded; once full, keys whose bucket has completely refilled are dropped,
+ * which loses no state since a new key starts with a full bucket. If no key is idle, the tenth
+ * of the buckets closest to refilled are dropped, so the most throttled keys are the last to go.
+ * Until a scan frees room, attempts for new keys are allowed untracked: a flood of distinct keys
+ * never locks out keys it did not use.
+ */
+public class TokenBucketRateLimiter {
+
+    /**
+     * Minimum time between eviction scans of a full map
+     */
+    private static final long EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxEntries;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private volatile long nextEvictionNanos = System.nanoTime();
+
+    public TokenBucketRateLimiter(int capacity, Duration window, int maxEntries) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, window.toNanos() / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Take one token for {@code key}
+     *
+     * @return 0 if the attempt is allowed, otherwise the nanoseconds until the next token is available
+     */
+    public long tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxEntries) {
+                evict();
+                if (buckets.size() >= maxEntries) {
+                    return 0;
+                }
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+        }
+
+        long now = System.nanoTime();
+        while (true) {
+            long stored = bucket.get();
+            long arrival = stored == Long.MIN_VALUE || stored - now < 0 ? now : stored;
+            long waitNanos = arrival - now - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(stored, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Give back a token taken by {@link #tryAcquire(String)}, for attempts that turn out not to count
+     */
+    public void refund(String key) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        while (true) {
+            long stored = bucket.get();
+            if (stored == Long.MIN_VALUE || stored - now <= 0) {
+                return;
+            }
+            if (bucket.compareAndSet(stored, stored - emissionIntervalNanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Number of keys currently tracked
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Drop keys whose bucket is full again, then if none were, the tenth of the buckets closest to
+     * refilled. Scans at most once per {@link #EVICTION_INTERVAL_NANOS}, so that a flood of new keys
+     * against a map of busy buckets does not rescan it on every attempt.
+     */
+    private void evict() {
+        long now = System.nanoTime();
+        if (now - nextEvictionNanos < 0 || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> {
+                long stored = bucket.get();
+                return stored == Long.MIN_VALUE || stored - now <= 0;
+            });
+            if (buckets.size() >= maxEntries) {
+                evictLeastRecentlyActive(now);
+            }
+            nextEvictionNanos = now + EVICTION_INTERVAL_NANOS;
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void evictLeastRecentlyActive(long now) {
+        long[] ahead = new long[buckets.size()];
+        int count = 0;
+        for (AtomicLong bucket : buckets.values()) {
+            if (count == ahead.length) {
+                break;
+            }
+            ahead[count++] = bucket.get() - now;
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(ahead, 0, count);
+        long threshold = ahead[Math.max(0, count / 10 - 1)];
+        buckets.values().removeIf(bucket -> bucket.get() - now <= threshold);
+    }
+}
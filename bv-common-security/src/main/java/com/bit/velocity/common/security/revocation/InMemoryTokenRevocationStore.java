@@ -0,0 +1,49 @@
+package com.bit.velocity.common.security.revocation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Embedded revocation store for tests and single-node deployments.
+ * Revocations are only visible within the current JVM.
+ */
+public class InMemoryTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * Expired entries are dropped at most this often, keeping appends O(log n)
+     */
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final NavigableMap<Long, Revocation> log = new ConcurrentSkipListMap<>();
+    private long sequence;
+    private Instant nextPurge = Instant.now().plus(PURGE_INTERVAL);
+
+    /**
+     * Appends are serialized so that readers never observe a gap in the sequence
+     */
+    @Override
+    public synchronized void revoke(String id, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!now.isBefore(nextPurge)) {
+            log.values().removeIf(revocation -> revocation.expiresAt().isBefore(now));
+            nextPurge = now.plus(PURGE_INTERVAL);
+        }
+        log.put(++sequence, new Revocation(id, expiresAt));
+    }
+
+    @Override
+    public Changes changesSince(long cursor) {
+        List<Revocation> revocations = new ArrayList<>();
+        long next = cursor;
+        for (Map.Entry<Long, Revocation> entry : log.tailMap(cursor, false).entrySet()) {
+            revocations.add(entry.getValue());
+            next = entry.getKey();
+        }
+        return new Changes(revocations, next);
+    }
+}
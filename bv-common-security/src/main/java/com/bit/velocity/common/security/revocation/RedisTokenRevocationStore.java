@@ -0,0 +1,88 @@
+package com.bit.velocity.common.security.revocation;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis-backed revocation store shared by every node.
+ *
+ * Keys under the configured prefix:
+ * {@code <prefix>:seq} is the log sequence counter, {@code <prefix>:log} a sorted set of
+ * revocations scored by sequence number, and {@code <prefix>:expiry} the same members scored
+ * by expiry time so that stale entries can be trimmed. Each member is {@code <id>|<expiry epoch second>}.
+ */
+public class RedisTokenRevocationStore implements TokenRevocationStore {
+
+    /**
+     * Assigns the sequence number and appends in one step, so readers never skip an entry,
+     * then drops entries whose tokens have expired
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('INCR', KEYS[1]) "
+                    + "redis.call('ZADD', KEYS[2], seq, ARGV[1]) "
+                    + "redis.call('ZADD', KEYS[3], ARGV[2], ARGV[1]) "
+                    + "local expired = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[3]) "
+                    + "for _, member in ipairs(expired) do "
+                    + "redis.call('ZREM', KEYS[2], member) "
+                    + "redis.call('ZREM', KEYS[3], member) "
+                    + "end "
+                    + "return seq",
+            Long.class);
+
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<String> keys;
+    private final String logKey;
+    private final int batchSize;
+
+    public RedisTokenRevocationStore(StringRedisTemplate redisTemplate, String keyPrefix, int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.logKey = keyPrefix + ":log";
+        this.keys = List.of(keyPrefix + ":seq", logKey, keyPrefix + ":expiry");
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void revoke(String id, Instant expiresAt) {
+        redisTemplate.execute(REVOKE_SCRIPT, keys,
+                id + SEPARATOR + expiresAt.getEpochSecond(),
+                Long.toString(expiresAt.getEpochSecond()),
+                Long.toString(Instant.now().getEpochSecond() - 1));
+    }
+
+    /**
+     * Returns at most the configured batch size; callers keep polling until no changes are left
+     */
+    @Override
+    public Changes changesSince(long cursor) {
+        Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(logKey, cursor + 1, Double.POSITIVE_INFINITY, 0, batchSize);
+        if (entries == null || entries.isEmpty()) {
+            return new Changes(List.of(), cursor);
+        }
+
+        List<Revocation> revocations = new ArrayList<>(entries.size());
+        long next = cursor;
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            if (entry.getScore() != null) {
+                next = Math.max(next, entry.getScore().longValue());
+            }
+            String member = entry.getValue();
+            int separator = member != null ? member.lastIndexOf(SEPARATOR) : -1;
+            if (separator > 0) {
+                revocations.add(new Revocation(
+                        member.substring(0, separator),
+                        Instant.ofEpochSecond(Long.parseLong(member.substring(separator + 1)))));
+            }
+        }
+        return new Changes(revocations, next);
+    }
+}
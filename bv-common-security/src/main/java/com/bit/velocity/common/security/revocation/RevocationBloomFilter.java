@@ -0,0 +1,90 @@
+package com.bit.velocity.common.security.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over revoked ids. Bits are only ever set, so concurrent readers
+ * may miss an id that is being added but never see a false negative for a completed add.
+ */
+final class RevocationBloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long mask;
+    private final int hashes;
+    private final int capacity;
+
+    private RevocationBloomFilter(long bits, int hashes, int capacity) {
+        this.words = new AtomicLongArray((int) (bits >>> 6));
+        this.mask = bits - 1;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Size a filter for {@code capacity} ids at the given false positive rate, rounding bits up to a power of two
+     */
+    static RevocationBloomFilter forCapacity(int capacity, double falsePositiveRate) {
+        int entries = Math.max(capacity, 64);
+        double optimalBits = -entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        long bits = Math.max(Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1, 64);
+        int hashes = Math.max(1, (int) Math.round((double) bits / entries * Math.log(2)));
+        return new RevocationBloomFilter(bits, Math.min(hashes, 16), entries);
+    }
+
+    void add(String id) {
+        long hash = hash(id);
+        long step = (hash >>> 32) | 1;
+        long probe = hash;
+        for (int i = 0; i < hashes; i++) {
+            long bit = probe & mask;
+            int index = (int) (bit >>> 6);
+            long bitMask = 1L << bit;
+            long word = words.get(index);
+            while ((word & bitMask) == 0 && !words.compareAndSet(index, word, word | bitMask)) {
+                word = words.get(index);
+            }
+            probe += step;
+        }
+    }
+
+    boolean mightContain(String id) {
+        long hash = hash(id);
+        long step = (hash >>> 32) | 1;
+        long probe = hash;
+        for (int i = 0; i < hashes; i++) {
+            long bit = probe & mask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+            probe += step;
+        }
+        return true;
+    }
+
+    /**
+     * Number of ids the filter was sized for
+     */
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with the MurmurHash3 mixer
+     */
+    private static long hash(String id) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < id.length(); i++) {
+            hash ^= id.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,209 @@
+package com.bit.velocity.common.security.revocation;
+
+import com.bit.velocity.common.security.jwt.JwtClaims;
+import com.bit.velocity.common.security.jwt.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Node-local replica of the revocation log in {@link TokenRevocationStore}.
+ *
+ * Revoked token ids and session ids are held in a Bloom filter backed by an exact map,
+ * so checking a token is a few bit tests in the common case and never a network call.
+ * The replica is refreshed incrementally on a background thread; revocations made on this
+ * node are visible immediately, revocations from other nodes within one refresh interval.
+ *
+ * Configured under {@code bitvelocity.security.jwt.revocation.*}.
+ */
+@Component
+@Slf4j
+public class TokenRevocationRegistry implements InitializingBean, DisposableBean {
+
+    private final TokenRevocationStore store;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * Revoked id to the epoch second after which the revocation no longer matters
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile RevocationBloomFilter bloomFilter;
+
+    /**
+     * Serializes refreshes, which read the store without holding the replica's monitor
+     */
+    private final Object refreshLock = new Object();
+    private long cursor;
+    private ScheduledExecutorService scheduler;
+
+    public TokenRevocationRegistry(TokenRevocationStore store, JwtProperties jwtProperties) {
+        this.store = store;
+        this.jwtProperties = jwtProperties;
+        this.bloomFilter = newBloomFilter(0);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        if (!revocation.isEnabled()) {
+            return;
+        }
+
+        refresh();
+        long intervalMillis = revocation.getRefreshInterval().toMillis();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bv-token-revocation-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Token revocation enabled, refreshing every {} ms", intervalMillis);
+    }
+
+    /**
+     * Whether revocations are recorded and checked
+     */
+    public boolean isEnabled() {
+        return jwtProperties.getRevocation().isEnabled();
+    }
+
+    /**
+     * Check whether a token id or session id has been revoked
+     */
+    public boolean isRevoked(String id) {
+        if (id == null || !jwtProperties.getRevocation().isEnabled()) {
+            return false;
+        }
+        return bloomFilter.mightContain(id) && revoked.containsKey(id);
+    }
+
+    /**
+     * Check whether the token itself or its session has been revoked
+     */
+    public boolean isRevoked(JwtClaims claims) {
+        return isRevoked(claims.getTokenId()) || isRevoked(claims.getSessionId());
+    }
+
+    /**
+     * Revoke a single token, e.g. on logout
+     */
+    public void revokeToken(JwtClaims claims) {
+        Instant expiresAt = claims.getExpiresAtEpochSecond() != null
+                ? Instant.ofEpochSecond(claims.getExpiresAtEpochSecond())
+                : null;
+        revoke(claims.getTokenId(), expiresAt);
+    }
+
+    /**
+     * Revoke every token of a session, e.g. on forced logout
+     */
+    public void revokeSession(String sessionId, Instant expiresAt) {
+        revoke(sessionId, expiresAt);
+    }
+
+    /**
+     * Revoke a token id or session id until {@code expiresAt}, or for the refresh token lifetime if null.
+     * Does nothing while revocation is disabled, since nothing would check or purge the entry.
+     */
+    public void revoke(String id, Instant expiresAt) {
+        if (id == null) {
+            throw new IllegalArgumentException("Revoked id must not be null");
+        }
+        if (!isEnabled()) {
+            log.debug("Token revocation disabled, ignoring revocation of {}", id);
+            return;
+        }
+        Instant until = expiresAt != null ? expiresAt : Instant.now().plus(jwtProperties.getRefreshTokenExpiry());
+        store.revoke(id, until);
+        apply(id, until.getEpochSecond());
+    }
+
+    /**
+     * Pull revocations appended since the last refresh and drop expired ones.
+     * The store is read outside the replica's monitor, so a slow store never stalls {@link #revoke(String, Instant)}.
+     * On store failure the current replica is kept and the next refresh retries from the same cursor.
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            try {
+                long previous;
+                do {
+                    previous = cursor;
+                    TokenRevocationStore.Changes changes = store.changesSince(cursor);
+                    applyAll(changes.revocations());
+                    cursor = changes.cursor();
+                } while (cursor > previous);
+            } catch (RuntimeException e) {
+                log.warn("Token revocation refresh failed, keeping local state: {}", e.getMessage());
+            }
+        }
+        purgeExpired();
+    }
+
+    /**
+     * Number of revocations currently held by this node
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Add a revocation to the replica; serialized with Bloom filter rebuilds so no id is lost
+     */
+    private synchronized void apply(String id, long expiresAtEpochSecond) {
+        if (expiresAtEpochSecond <= Instant.now().getEpochSecond()) {
+            return;
+        }
+        revoked.merge(id, expiresAtEpochSecond, Math::max);
+        bloomFilter.add(id);
+        if (revoked.size() > bloomFilter.capacity()) {
+            rebuildBloomFilter();
+        }
+    }
+
+    private synchronized void applyAll(List<TokenRevocationStore.Revocation> revocations) {
+        for (TokenRevocationStore.Revocation revocation : revocations) {
+            apply(revocation.id(), revocation.expiresAt().getEpochSecond());
+        }
+    }
+
+    private synchronized void purgeExpired() {
+        long now = Instant.now().getEpochSecond();
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildBloomFilter();
+        }
+    }
+
+    /**
+     * Build a filter over the live revocations only, clearing bits of expired ones
+     */
+    private void rebuildBloomFilter() {
+        RevocationBloomFilter rebuilt = newBloomFilter(revoked.size());
+        for (String id : revoked.keySet()) {
+            rebuilt.add(id);
+        }
+        bloomFilter = rebuilt;
+    }
+
+    private RevocationBloomFilter newBloomFilter(int size) {
+        JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+        int capacity = Math.max(revocation.getExpectedRevocations(), size * 2);
+        return RevocationBloomFilter.forCapacity(capacity, revocation.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,36 @@
+package com.bit.velocity.common.security.revocation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Shared store of revoked token ids ({@code jti}) and session ids.
+ *
+ * Revocations form an ordered log so that each node can replicate it incrementally:
+ * {@link #changesSince(long)} returns only entries appended after the given cursor.
+ * Entries are kept until the revoked token or session would have expired anyway.
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * Record a revocation that stays relevant until {@code expiresAt}
+     */
+    void revoke(String id, Instant expiresAt);
+
+    /**
+     * Get the revocations appended after {@code cursor}; a cursor of 0 returns every live revocation
+     */
+    Changes changesSince(long cursor);
+
+    /**
+     * A revoked token or session id and the time after which it no longer matters
+     */
+    record Revocation(String id, Instant expiresAt) {
+    }
+
+    /**
+     * Revocations appended after a cursor, and the cursor to pass on the next call
+     */
+    record Changes(List<Revocation> revocations, long cursor) {
+    }
+}
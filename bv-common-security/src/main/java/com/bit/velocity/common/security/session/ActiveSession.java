@@ -0,0 +1,13 @@
+package com.bit.velocity.common.security.session;
+
+import java.time.Instant;
+
+/**
+ * An active login session of a user
+ */
+public record ActiveSession(String sessionId, Instant createdAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bit.velocity.common.security.session;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node-local session store.
+ *
+ * Each user maps to an immutable, oldest-first list that is replaced through
+ * {@link ConcurrentHashMap#compute}, which only locks the bin of that user. Logins of
+ * different users proceed in parallel and reads never lock.
+ */
+public class InMemorySessionStore implements SessionStore {
+
+    private final Map<String, List<ActiveSession>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public List<ActiveSession> register(String userId, ActiveSession session, int maxSessions) {
+        Instant now = Instant.now();
+        List<ActiveSession> evicted = new ArrayList<>(1);
+        sessions.compute(userId, (key, current) -> {
+            List<ActiveSession> updated = new ArrayList<>(current != null ? current.size() + 1 : 1);
+            if (current != null) {
+                for (ActiveSession existing : current) {
+                    if (!existing.isExpired(now) && !existing.sessionId().equals(session.sessionId())) {
+                        updated.add(existing);
+                    }
+                }
+            }
+            updated.add(session);
+
+            int excess = maxSessions > 0 ? updated.size() - maxSessions : 0;
+            if (excess > 0) {
+                evicted.addAll(updated.subList(0, excess));
+                updated = updated.subList(excess, updated.size());
+            }
+            return List.copyOf(updated);
+        });
+        return evicted;
+    }
+
+    @Override
+    public ActiveSession remove(String userId, String sessionId) {
+        ActiveSession[] removed = new ActiveSession[1];
+        sessions.computeIfPresent(userId, (key, current) -> {
+            List<ActiveSession> updated = new ArrayList<>(current.size());
+            for (ActiveSession existing : current) {
+                if (existing.sessionId().equals(sessionId)) {
+                    removed[0] = existing;
+                } else {
+                    updated.add(existing);
+                }
+            }
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+        return removed[0];
+    }
+
+    @Override
+    public List<ActiveSession> getSessions(String userId) {
+        List<ActiveSession> current = sessions.get(userId);
+        if (current == null) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        List<ActiveSession> active = new ArrayList<>(current.size());
+        for (ActiveSession session : current) {
+            if (!session.isExpired(now)) {
+                active.add(session);
+            }
+        }
+        return active;
+    }
+
+    @Override
+    public void removeExpired(Instant now) {
+        for (String userId : sessions.keySet()) {
+            sessions.computeIfPresent(userId, (key, current) -> {
+                List<ActiveSession> live = new ArrayList<>(current.size());
+                for (ActiveSession session : current) {
+                    if (!session.isExpired(now)) {
+                        live.add(session);
+                    }
+                }
+                if (live.size() == current.size()) {
+                    return current;
+                }
+                return live.isEmpty() ? null : List.copyOf(live);
+            });
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bit.velocity.common.security.session;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Session management properties
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "security.session")
+public class SessionProperties {
+
+    /**
+     * How long a session stays active after login; tokens issued for the session expire no later
+     */
+    private Duration timeout = Duration.ofHours(8);
+
+    /**
+     * Maximum number of active sessions per user; the oldest session is ended beyond it (0 = unlimited)
+     */
+    private int concurrentSessions = 3;
+}
@@ -0,0 +1,98 @@
+package com.bit.velocity.common.security.session;
+
+import com.bit.velocity.common.security.revocation.TokenRevocationRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the active sessions of each user and enforces {@code security.session.concurrent-sessions}.
+ * When a login exceeds the limit, the oldest sessions are ended and revoked, so their
+ * tokens stop validating on every node. Revocation must be enabled for the limit to affect
+ * issued tokens; a warning is logged at startup when it is not.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SessionRegistry implements InitializingBean {
+
+    /**
+     * Expired sessions of all users are swept once per this many registrations
+     */
+    private static final long SWEEP_INTERVAL = 1024;
+
+    private final SessionProperties sessionProperties;
+    private final SessionStore sessionStore;
+    private final TokenRevocationRegistry revocationRegistry;
+
+    private final AtomicLong registrations = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (sessionProperties.getConcurrentSessions() > 0 && !revocationRegistry.isEnabled()) {
+            log.warn("security.session.concurrent-sessions is {} but token revocation is disabled: "
+                    + "sessions beyond the limit are dropped from the registry while their tokens keep validating. "
+                    + "Enable bitvelocity.security.jwt.revocation to enforce the limit",
+                    sessionProperties.getConcurrentSessions());
+        }
+    }
+
+    /**
+     * Register a new session for a user, ending the oldest sessions beyond the limit
+     *
+     * @throws IllegalArgumentException if the user id is null; sessions are counted per user
+     */
+    public ActiveSession registerSession(String userId, String sessionId) {
+        if (userId == null || sessionId == null) {
+            throw new IllegalArgumentException("Sessions need a user id and a session id");
+        }
+        Instant now = Instant.now();
+        ActiveSession session = new ActiveSession(sessionId, now, now.plus(sessionProperties.getTimeout()));
+
+        List<ActiveSession> evicted = sessionStore.register(userId, session, sessionProperties.getConcurrentSessions());
+        for (ActiveSession oldest : evicted) {
+            log.info("Session limit reached for user {}, ending session {}", userId, oldest.sessionId());
+            revocationRegistry.revokeSession(oldest.sessionId(), oldest.expiresAt());
+        }
+
+        if (registrations.incrementAndGet() % SWEEP_INTERVAL == 0) {
+            sessionStore.removeExpired(now);
+        }
+        return session;
+    }
+
+    /**
+     * End a session, e.g. on logout, and revoke its tokens
+     */
+    public void endSession(String userId, String sessionId) {
+        ActiveSession session = sessionStore.remove(userId, sessionId);
+        revocationRegistry.revokeSession(sessionId, session != null ? session.expiresAt() : null);
+    }
+
+    /**
+     * Get an active session of a user, or null if it ended, expired or is tracked on another node
+     */
+    public ActiveSession getActiveSession(String userId, String sessionId) {
+        if (userId == null || sessionId == null) {
+            return null;
+        }
+        for (ActiveSession session : sessionStore.getSessions(userId)) {
+            if (session.sessionId().equals(sessionId)) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the active sessions of a user, oldest first
+     */
+    public List<ActiveSession> getActiveSessions(String userId) {
+        return sessionStore.getSessions(userId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.bit.velocity.common.security.session;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Backend holding the active sessions of each user.
+ * Implementations must apply {@link #register} atomically per user, so that concurrent logins
+ * of the same user never exceed the limit.
+ */
+public interface SessionStore {
+
+    /**
+     * Add a session, drop expired ones and end the oldest sessions beyond {@code maxSessions}
+     *
+     * @return the sessions ended to make room, oldest first
+     */
+    List<ActiveSession> register(String userId, ActiveSession session, int maxSessions);
+
+    /**
+     * Remove a session, returning it if it was active
+     */
+    ActiveSession remove(String userId, String sessionId);
+
+    /**
+     * Get the sessions of a user that have not expired, oldest first
+     */
+    List<ActiveSession> getSessions(String userId);
+
+    /**
+     * Drop expired sessions of all users
+     */
+    void removeExpired(Instant now);
+}
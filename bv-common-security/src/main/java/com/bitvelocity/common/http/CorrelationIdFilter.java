@@ -1,12 +1,13 @@
 package com.bitvelocity.common.http;
 
+import com.bit.velocity.common.id.Ids;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.MDC;
 import java.io.IOException;
-import java.util.UUID;
 
 public class CorrelationIdFilter implements Filter {
+    public static final String CORRELATION_ID_MDC_KEY = "correlationId";
     private static final String CORRELATION_HEADER = "X-Correlation-Id";
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -14,12 +15,12 @@ public class CorrelationIdFilter implements Filter {
         try {
             if (request instanceof HttpServletRequest http) {
                 String existing = http.getHeader(CORRELATION_HEADER);
-                String cid = (existing == null || existing.isBlank()) ? UUID.randomUUID().toString() : existing;
-                MDC.put("correlationId", cid);
+                String cid = (existing == null || existing.isBlank()) ? Ids.nextString() : existing;
+                MDC.put(CORRELATION_ID_MDC_KEY, cid);
             }
             chain.doFilter(request, response);
         } finally {
-            MDC.remove("correlationId");
+            MDC.remove(CORRELATION_ID_MDC_KEY);
         }
     }
 }